@@ -12,15 +12,14 @@
 
 package fr.ign.cogit.roc4j.core;
 
-import java.awt.Color;
+import java.util.ArrayList;
 
-import fr.ign.cogit.roc4j.graphics.OperatingArea;
-import fr.ign.cogit.roc4j.graphics.OperatingLine;
-import fr.ign.cogit.roc4j.graphics.OperatingPoint;
+import fr.ign.cogit.roc4j.utils.Tools;
 
 
 //=================================================================================
 // Class for handling area under a given ROC curve
+// Color is stored as a 32 bits ARGB integer (see roc4j-graphics for plotting)
 // Date : 06/03/2017
 //=================================================================================
 
@@ -28,27 +27,27 @@ public class AreaUnderCurve {
 
 	// Parameters
 	private ReceiverOperatingCharacteristics roc;
-	private Color color;
+	private int color;
 	private float transparency;
 	private ConfidenceBands bands;
 	private double confidenceLevel = -1;
 
 
 	// Getters
-	public Color getColor(){return color;}
+	public int getColor(){return color;}
 	public ReceiverOperatingCharacteristics getRoc(){return roc;}
 
 	// Setters
-	public void setColor(Color color){
+	public void setColor(int color){
 
-		this.color = new Color(color.getRed()/255.f, color.getGreen()/255.f, color.getBlue()/255.f, this.transparency);
+		this.color = Tools.argb(color, this.transparency);
 
 	}
 
 	public void setTransparency(float t){
 
 		transparency = t;
-		this.color = new Color(this.color.getRed()/255.f, this.color.getGreen()/255.f, this.color.getBlue()/255.f, t);
+		this.color = Tools.argb(this.color, t);
 
 	}
 
@@ -57,7 +56,7 @@ public class AreaUnderCurve {
 	public AreaUnderCurve(ReceiverOperatingCharacteristics roc){
 
 		this.roc = roc;
-		this.color = Color.GREEN;
+		this.color = 0xFF00FF00;
 		this.setTransparency(0.3f);
 		this.bands = null;
 
@@ -68,7 +67,7 @@ public class AreaUnderCurve {
 
 		this.roc = bands.getCentralROC();
 		this.bands = bands;
-		this.color = Color.GREEN;
+		this.color = 0xFF00FF00;
 		this.setTransparency(0.3f);
 		this.confidenceLevel = bands.getConfidenceLevel();
 
@@ -118,15 +117,33 @@ public class AreaUnderCurve {
 
 	}
 	
-	// Get polygon
-	public OperatingArea getOperatingArea(){
+	// Get polygon (closed list of vertices : FPR in first row, TPR in second row)
+	public double[][] getPolygon(){
 		
-		OperatingLine line = new OperatingLine(roc.toOperatingPointsSequency());
+		ArrayList<OperatingPoint> POINTS = roc.toOperatingPointsSequency();
 		
-		line.addOperatingPoint(new OperatingPoint(1, 0));
-		line.addOperatingPoint(line.getOperatingPoint(0));
+		POINTS.add(new OperatingPoint(1, 0));
+		POINTS.add(POINTS.get(0));
 		
-		return new OperatingArea(line);
+		double[][] polygon = new double[2][POINTS.size()];
+		
+		for (int i=0; i<POINTS.size(); i++){
+			
+			polygon[0][i] = POINTS.get(i).getFpr();
+			polygon[1][i] = POINTS.get(i).getTpr();
+			
+		}
+		
+		return polygon;
+		
+	}
+	
+	// Test if a ROC space point is inside area
+	public boolean contains(OperatingPoint point){
+		
+		double[][] polygon = getPolygon();
+		
+		return Tools.inside(point.getFpr(), point.getTpr(), polygon[0], polygon[1]);
 		
 	}
 
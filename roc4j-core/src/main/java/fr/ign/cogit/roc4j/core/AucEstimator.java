@@ -0,0 +1,516 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import java.util.Arrays;
+
+import fr.ign.cogit.roc4j.utils.Tools;
+
+
+// =================================================================================
+// Protected class for computing Area Under Curve directly from instances scores
+// ---------------------------------------------------------------------------------
+// - Method mannWhitney : AUC is the probability that a positive instance is given a
+// greater score than a negative instance (Mann-Whitney U statistic normalized by
+// P x N), ties counting for one half. Positive and negative scores are sorted once
+// and tie groups are visited in decreasing order, hence complexity is O(n log(n))
+// and no ROC curve is built. Result is strictly equal to the area under the exact
+// empirical ROC curve. Missing (NaN) scores are ignored. With instances weights,
+// each pair of instances is counted with the product of their weights.
+//---------------------------------------------------------------------------------
+// - Method partial : area under a piecewise linear curve restricted to an interval
+// of abscissa, with exact interpolation at interval bounds. On FPR range, this is
+// the area under ROC curve, on TPR range, the area on the right of ROC curve.
+//---------------------------------------------------------------------------------
+// - Method partialFromScores : partial area computed on exact empirical ROC curve
+// from scores. Boundary score of the interval is found by selection in linear time
+// and only instances scored above are sorted, hence sorting cost depends on the
+// size of the interval (e.g. low FPR region) and not on the number of instances.
+//---------------------------------------------------------------------------------
+// - Method mcClish : standardized partial area (McClish, 1989), mapping diagonal
+// to 0.5 and perfect classifier to 1 within the interval.
+//---------------------------------------------------------------------------------
+// Date : 18/10/2026
+//=================================================================================
+
+class AucEstimator {
+
+	// ---------------------------------------------------------------------------
+	// Method to sort a copy of scores and remove missing values
+	// ---------------------------------------------------------------------------
+	protected static double[] sortScores(double[] scores){
+
+		double[] sorted = Arrays.copyOf(scores, scores.length);
+
+		Arrays.sort(sorted);
+
+		// Missing (NaN) scores are sorted last
+		int n = sorted.length;
+
+		while ((n > 0) && Double.isNaN(sorted[n-1])){n--;}
+
+		return (n == sorted.length) ? sorted : Arrays.copyOf(sorted, n);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute exact AUC with rank sum
+	// Inputs : positive and negative instances scores
+	// Output : AUC value (NaN if one of the classes is empty)
+	// ---------------------------------------------------------------------------
+	protected static double mannWhitney(double[] positives, double[] negatives){
+
+		double[] pos = sortScores(positives);
+		double[] neg = sortScores(negatives);
+
+		int P = pos.length;
+		int N = neg.length;
+
+		if ((P == 0) || (N == 0)){
+
+			return Double.NaN;
+
+		}
+
+		// Cursors on first score of current tie group
+		int ip = P;
+		int in = N;
+
+		// Twice the U statistic (exact in long arithmetic)
+		long U2 = 0;
+
+		while (in > 0){
+
+			double t = neg[in-1];
+
+			if ((ip > 0) && (pos[ip-1] > t)){t = pos[ip-1];}
+
+			// Positive instances strictly above the group
+			int above = P - ip;
+			int start = in;
+
+			while ((ip > 0) && (pos[ip-1] >= t)){ip--;}
+			while ((in > 0) && (neg[in-1] >= t)){in--;}
+
+			// Positive and negative instances in the group
+			int tp = P - ip - above;
+			int fp = start - in;
+
+			U2 += (long)(fp)*(2L*above + tp);
+
+		}
+
+		return (double)(U2)/(2.0*(double)(P)*(double)(N));
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute exact AUC with weighted rank sum
+	// Inputs : positive and negative instances scores and weights (null weights
+	// vectors stand for unit weights)
+	// Output : AUC value (NaN if one of the classes has null total weight)
+	// ---------------------------------------------------------------------------
+	protected static double mannWhitney(double[] positives, double[] positiveWeights, double[] negatives, double[] negativeWeights){
+
+		if ((positiveWeights == null) && (negativeWeights == null)){
+
+			return mannWhitney(positives, negatives);
+
+		}
+
+		double[] pos = Arrays.copyOf(positives, positives.length);
+		double[] neg = Arrays.copyOf(negatives, negatives.length);
+
+		double[] wpos = weights(positiveWeights, positives.length);
+		double[] wneg = weights(negativeWeights, negatives.length);
+
+		Tools.sort(pos, wpos);
+		Tools.sort(neg, wneg);
+
+		int ip = pos.length;
+		int in = neg.length;
+
+		while ((ip > 0) && Double.isNaN(pos[ip-1])){ip--;}
+		while ((in > 0) && Double.isNaN(neg[in-1])){in--;}
+
+		double above = 0.0;
+		double WN = 0.0;
+		double U = 0.0;
+
+		while ((ip > 0) || (in > 0)){
+
+			double t = Double.NEGATIVE_INFINITY;
+
+			if (ip > 0){t = Math.max(t, pos[ip-1]);}
+			if (in > 0){t = Math.max(t, neg[in-1]);}
+
+			// Weights of positive and negative instances in the group
+			double tp = 0.0;
+			double fp = 0.0;
+
+			while ((ip > 0) && (pos[ip-1] >= t)){tp += wpos[--ip];}
+			while ((in > 0) && (neg[in-1] >= t)){fp += wneg[--in];}
+
+			U += fp*(above + 0.5*tp);
+
+			above += tp;
+			WN += fp;
+
+		}
+
+		return U/(above*WN);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to copy weights (unit weights if null)
+	// ---------------------------------------------------------------------------
+	protected static double[] weights(double[] weights, int size){
+
+		if (weights == null){
+
+			double[] unit = new double[size];
+
+			Arrays.fill(unit, 1.0);
+
+			return unit;
+
+		}
+
+		if (weights.length != size){
+
+			System.err.println("Error : weights and scores vectors must have same dimension");
+			System.exit(1);
+
+		}
+
+		return Arrays.copyOf(weights, size);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to check a partial area interval
+	// ---------------------------------------------------------------------------
+	protected static void checkInterval(double min, double max){
+
+		if (!((min >= 0) && (min < max) && (max <= 1))){
+
+			System.err.println("Error : partial AUC interval bounds must satisfy 0 <= min < max <= 1");
+			System.exit(1);
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute area under a piecewise linear curve on an interval
+	// Inputs : abscissa (non-decreasing) and ordinates of vertices, bounds
+	// Output : integral of ordinate over [min, max]
+	// ---------------------------------------------------------------------------
+	protected static double partial(double[] X, double[] Y, double min, double max){
+
+		double area = 0.0;
+
+		for (int i=0; i<X.length-1; i++){
+
+			double x1 = X[i];
+			double x2 = X[i+1];
+
+			if ((x2 <= min) || (x1 >= max) || (x2 == x1)){
+
+				continue;
+
+			}
+
+			double a = Math.max(x1, min);
+			double b = Math.min(x2, max);
+
+			double ya = Y[i] + (Y[i+1]-Y[i])*(a-x1)/(x2-x1);
+			double yb = Y[i] + (Y[i+1]-Y[i])*(b-x1)/(x2-x1);
+
+			area += 0.5*(b-a)*(ya+yb);
+
+		}
+
+		return area;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute partial area of a ROC curve
+	// Inputs : ROC curve vertices, bounds and range type (FPR or TPR)
+	// ---------------------------------------------------------------------------
+	protected static double partial(double[] X, double[] Y, double min, double max, int range){
+
+		checkInterval(min, max);
+
+		if (range == ReceiverOperatingCharacteristics.RANGE_TPR){
+
+			return (max-min) - partial(Y, X, min, max);
+
+		}
+
+		return partial(X, Y, min, max);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute partial area from scores
+	// Inputs : positive and negative instances scores, bounds and range type
+	// Output : partial area of exact empirical ROC curve
+	// ---------------------------------------------------------------------------
+	protected static double partialFromScores(double[] positives, double[] negatives, double min, double max, int range){
+
+		checkInterval(min, max);
+
+		double[] pos = removeMissing(positives);
+		double[] neg = removeMissing(negatives);
+
+		int P = pos.length;
+		int N = neg.length;
+
+		if ((P == 0) || (N == 0)){
+
+			return Double.NaN;
+
+		}
+
+		// Boundary score : all instances scored above are enough to reach max rate
+		double[] reference = (range == ReceiverOperatingCharacteristics.RANGE_TPR) ? pos : neg;
+
+		int k = (int)Math.min(Math.ceil(max*reference.length), reference.length);
+
+		double cutoff = select(reference, Math.max(k, 1));
+
+		// Instances ranked inside interval, sorted in increasing order
+		pos = sortScores(above(pos, cutoff));
+		neg = sortScores(above(neg, cutoff));
+
+		// Exact empirical ROC curve restricted to top-ranked instances
+		double[] X = new double[pos.length+neg.length+1];
+		double[] Y = new double[pos.length+neg.length+1];
+
+		int ip = pos.length;
+		int in = neg.length;
+		int n = 1;
+
+		while ((ip > 0) || (in > 0)){
+
+			double t = Double.NEGATIVE_INFINITY;
+
+			if (ip > 0){t = Math.max(t, pos[ip-1]);}
+			if (in > 0){t = Math.max(t, neg[in-1]);}
+
+			while ((ip > 0) && (pos[ip-1] >= t)){ip--;}
+			while ((in > 0) && (neg[in-1] >= t)){in--;}
+
+			X[n] = (double)(neg.length - in)/(double)(N);
+			Y[n] = (double)(pos.length - ip)/(double)(P);
+
+			n++;
+
+		}
+
+		return partial(Arrays.copyOf(X, n), Arrays.copyOf(Y, n), min, max, range);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute partial area from weighted scores
+	// Inputs : positive and negative instances scores and weights (null weights
+	// vectors stand for unit weights), bounds and range type
+	// With weights, all instances are sorted
+	// ---------------------------------------------------------------------------
+	protected static double partialFromScores(double[] positives, double[] positiveWeights, double[] negatives, double[] negativeWeights, double min, double max, int range){
+
+		if ((positiveWeights == null) && (negativeWeights == null)){
+
+			return partialFromScores(positives, negatives, min, max, range);
+
+		}
+
+		checkInterval(min, max);
+
+		double[] pos = Arrays.copyOf(positives, positives.length);
+		double[] neg = Arrays.copyOf(negatives, negatives.length);
+
+		double[] wpos = weights(positiveWeights, positives.length);
+		double[] wneg = weights(negativeWeights, negatives.length);
+
+		Tools.sort(pos, wpos);
+		Tools.sort(neg, wneg);
+
+		int ip = pos.length;
+		int in = neg.length;
+
+		while ((ip > 0) && Double.isNaN(pos[ip-1])){ip--;}
+		while ((in > 0) && Double.isNaN(neg[in-1])){in--;}
+
+		double WP = 0.0;
+		double WN = 0.0;
+
+		for (int i=0; i<ip; i++){WP += wpos[i];}
+		for (int i=0; i<in; i++){WN += wneg[i];}
+
+		// Exact empirical weighted ROC curve
+		double[] X = new double[ip+in+1];
+		double[] Y = new double[ip+in+1];
+
+		double tp = 0.0;
+		double fp = 0.0;
+
+		int n = 1;
+
+		while ((ip > 0) || (in > 0)){
+
+			double t = Double.NEGATIVE_INFINITY;
+
+			if (ip > 0){t = Math.max(t, pos[ip-1]);}
+			if (in > 0){t = Math.max(t, neg[in-1]);}
+
+			while ((ip > 0) && (pos[ip-1] >= t)){tp += wpos[--ip];}
+			while ((in > 0) && (neg[in-1] >= t)){fp += wneg[--in];}
+
+			X[n] = fp/WN;
+			Y[n] = tp/WP;
+
+			n++;
+
+		}
+
+		return partial(Arrays.copyOf(X, n), Arrays.copyOf(Y, n), min, max, range);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to standardize a partial area (McClish correction)
+	// ---------------------------------------------------------------------------
+	protected static double mcClish(double area, double min, double max, int range){
+
+		checkInterval(min, max);
+
+		// Partial area of diagonal and of perfect classifier
+		double amin = 0.5*(max*max-min*min);
+		double amax = max-min;
+
+		if (range == ReceiverOperatingCharacteristics.RANGE_TPR){
+
+			amin = amax - amin;
+
+		}
+
+		return 0.5*(1 + (area-amin)/(amax-amin));
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to copy scores without missing values
+	// ---------------------------------------------------------------------------
+	private static double[] removeMissing(double[] scores){
+
+		double[] output = new double[scores.length];
+
+		int n = 0;
+
+		for (int i=0; i<scores.length; i++){
+
+			if (!Double.isNaN(scores[i])){
+
+				output[n++] = scores[i];
+
+			}
+
+		}
+
+		return Arrays.copyOf(output, n);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to copy scores greater or equal than a cutoff
+	// ---------------------------------------------------------------------------
+	private static double[] above(double[] scores, double cutoff){
+
+		double[] output = new double[scores.length];
+
+		int n = 0;
+
+		for (int i=0; i<scores.length; i++){
+
+			if (scores[i] >= cutoff){
+
+				output[n++] = scores[i];
+
+			}
+
+		}
+
+		return Arrays.copyOf(output, n);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to find k-th greatest score (k >= 1) in linear expected time
+	// Input scores are reordered (quickselect with median of three pivot)
+	// ---------------------------------------------------------------------------
+	private static double select(double[] scores, int k){
+
+		int target = scores.length - k;
+
+		int inf = 0;
+		int sup = scores.length-1;
+
+		while (inf < sup){
+
+			int mid = (inf+sup) >>> 1;
+
+			// Median of three
+			double a = scores[inf];
+			double b = scores[mid];
+			double c = scores[sup];
+
+			double pivot = Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+
+			// Hoare partition
+			int i = inf;
+			int j = sup;
+
+			while (i <= j){
+
+				while (scores[i] < pivot){i++;}
+				while (scores[j] > pivot){j--;}
+
+				if (i <= j){
+
+					double temp = scores[i];
+					scores[i] = scores[j];
+					scores[j] = temp;
+
+					i++;
+					j--;
+
+				}
+
+			}
+
+			if (target <= j){sup = j;}
+			else if (target >= i){inf = i;}
+			else{break;}
+
+		}
+
+		return scores[target];
+
+	}
+
+}
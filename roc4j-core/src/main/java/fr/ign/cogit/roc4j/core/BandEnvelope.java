@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import fr.ign.cogit.roc4j.utils.Tools;
+
+
+// =================================================================================
+// Protected class for evaluating an edge of confidence bands as a function of FPR
+// ---------------------------------------------------------------------------------
+// Edges of confidence bands are polylines which are monotone (non-decreasing FPR
+// and TPR along the curve, possibly in reverse order). An edge is stored with
+// increasing FPR, and its TPR value at any FPR is obtained by binary search and
+// linear interpolation in O(log(resolution)). On vertical segments, upper edge
+// takes its highest value and lower edge its lowest value. Outside of its FPR
+// range, an edge is extended with its end points TPR.
+//---------------------------------------------------------------------------------
+// A point is then included in bands if and only if it lies between lower and
+// upper edges (bounds included), which replaces point-in-polygon test on the
+// 2 x resolution bands polygon.
+//---------------------------------------------------------------------------------
+// Date : 18/10/2026
+//=================================================================================
+
+class BandEnvelope {
+
+	// Edge vertices (increasing FPR)
+	private double[] X;
+	private double[] Y;
+
+	// Edge type (upper or lower)
+	private boolean upper;
+
+
+	// ---------------------------------------------------------------------------
+	// Private constructor
+	// ---------------------------------------------------------------------------
+	private BandEnvelope(double[] X, double[] Y, boolean upper){
+
+		this.X = X;
+		this.Y = Y;
+		this.upper = upper;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to build envelope from a band edge
+	// Inputs : edge vertices and edge type (upper or lower)
+	// Output : envelope (null if edge is not monotone)
+	// ---------------------------------------------------------------------------
+	protected static BandEnvelope of(double[] X, double[] Y, boolean upper){
+
+		int n = X.length;
+
+		double[] XE = new double[n];
+		double[] YE = new double[n];
+
+		boolean reversed = (X[0] > X[n-1]) || ((X[0] == X[n-1]) && (Y[0] > Y[n-1]));
+
+		for (int i=0; i<n; i++){
+
+			int k = reversed ? n-1-i : i;
+
+			XE[i] = X[k];
+			YE[i] = Y[k];
+
+			if ((i > 0) && ((XE[i] < XE[i-1]) || (YE[i] < YE[i-1]))){
+
+				return null;
+
+			}
+
+		}
+
+		return new BandEnvelope(XE, YE, upper);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get TPR of edge at a given FPR
+	// ---------------------------------------------------------------------------
+	protected double evaluate(double x){
+
+		int n = X.length;
+
+		int k = upper ? Tools.upperBound(X, x) : Tools.lowerBound(X, x);
+
+		if (k == 0){
+
+			return Y[0];
+
+		}
+
+		if (k == n){
+
+			return Y[n-1];
+
+		}
+
+		if (X[k] == x){
+
+			return Y[k];
+
+		}
+
+		double w = (x - X[k-1])/(X[k] - X[k-1]);
+
+		return Y[k-1] + w*(Y[k] - Y[k-1]);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to test if a point lies between lower and upper edges
+	// ---------------------------------------------------------------------------
+	protected static boolean between(double x, double y, BandEnvelope lower, BandEnvelope upper){
+
+		return (lower.evaluate(x) <= y) && (y <= upper.evaluate(x));
+
+	}
+
+}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import java.util.concurrent.ForkJoinPool;
+
+
+// =================================================================================
+// Protected class for sharing statistics of a ROC curves set between confidence
+// bands computed at different confidence levels
+// ---------------------------------------------------------------------------------
+// Interpolation and averaging of curves do not depend on confidence level : each
+// statistic (column statistics of FPR and TPR, resampled TPR, averaged thresholds)
+// is computed on first request and kept for next confidence levels. Bands at any
+// number of levels are then derived from these statistics in O(resolution) each
+// (except for fixed-width band method, which requires a band-width search).
+//---------------------------------------------------------------------------------
+// Date : 18/10/2026
+//=================================================================================
+
+class BandStatistics {
+
+	// ROC curves set
+	private RocCurvesCollection ROCS;
+
+	// Computation method
+	private int method;
+
+	// Fork/join pool (sequential if null)
+	private ForkJoinPool pool;
+
+	// Statistics (null until first request)
+	private ColumnStatistics statsx;
+	private ColumnStatistics statsy;
+	private ColumnStatistics statsyResampled;
+
+	// Averaged thresholds
+	private double[] THRESHOLDS;
+	private boolean thresholdsComputed = false;
+
+
+	// ---------------------------------------------------------------------------
+	// Constructor
+	// ---------------------------------------------------------------------------
+	protected BandStatistics(RocCurvesCollection rocs, int method, ForkJoinPool pool){
+
+		this.ROCS = rocs;
+		this.method = method;
+		this.pool = pool;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get column statistics of false positive rates
+	// ---------------------------------------------------------------------------
+	protected ColumnStatistics getFalsePositiveRates(){
+
+		if (statsx == null){
+
+			statsx = ColumnStatistics.ofFalsePositiveRates(ROCS, pool);
+
+		}
+
+		return statsx;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get column statistics of true positive rates
+	// ---------------------------------------------------------------------------
+	protected ColumnStatistics getTruePositiveRates(){
+
+		if (statsy == null){
+
+			statsy = ColumnStatistics.ofTruePositiveRates(ROCS, pool);
+
+		}
+
+		return statsy;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get column statistics of true positive rates resampled on a
+	// regular grid (vertical averaging)
+	// ---------------------------------------------------------------------------
+	protected ColumnStatistics getResampledTruePositiveRates(int resolution){
+
+		if ((statsyResampled == null) || (statsyResampled.getResolution() != resolution)){
+
+			statsyResampled = ColumnStatistics.ofResampledTruePositiveRates(ROCS, resolution, pool);
+
+		}
+
+		return statsyResampled;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for averaging score thresholds of central ROC curve vertices
+	// Thresholds are averaged at same FPR for vertical averaging, and at same
+	// vertex index otherwise (null if any curve has unknown thresholds)
+	// ---------------------------------------------------------------------------
+	protected double[] getThresholds(int resolution){
+
+		if (!thresholdsComputed){
+
+			THRESHOLDS = averageThresholds(resolution);
+			thresholdsComputed = true;
+
+		}
+
+		return THRESHOLDS;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for averaging score thresholds
+	// ---------------------------------------------------------------------------
+	private double[] averageThresholds(int resolution){
+
+		for (int j=0; j<ROCS.size(); j++){
+
+			if (ROCS.get(j).TROC == null){
+
+				return null;
+
+			}
+
+		}
+
+		double[][] T_CURVES = new double[ROCS.size()][];
+
+		// One task per curve
+		ParallelLoop.forEach(pool, 0, ROCS.size(), 1, j -> {
+
+			ReceiverOperatingCharacteristics roc = ROCS.get(j);
+
+			if (method == ConfidenceBands.METHOD_VERTICAL_AVERAGING){
+
+				roc = roc.resample();
+
+			}
+
+			T_CURVES[j] = roc.TROC;
+
+		});
+
+		double[] T = new double[resolution];
+
+		// Curves are summed in same order for each position
+		ParallelLoop.forEach(pool, 0, resolution, 64, i -> {
+
+			for (int j=0; j<T_CURVES.length; j++){
+
+				T[i] += T_CURVES[j][i];
+
+			}
+
+			T[i] /= ROCS.size();
+
+		});
+
+		return T;
+
+	}
+
+}
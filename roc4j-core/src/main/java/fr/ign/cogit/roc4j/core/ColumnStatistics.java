@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import java.util.concurrent.ForkJoinPool;
+
+// =================================================================================
+// Protected class for computing column statistics of a set of sampled curves
+// ---------------------------------------------------------------------------------
+// Values are stored in a primitive curves x resolution matrix (one row per curve,
+// rows are concatenated in a single array). Mean and standard deviation of each
+// column (i.e. each position of the curves) are computed in a single streaming
+// pass with Welford's algorithm, without any boxing. Rows are read sequentially,
+// each one updating all column accumulators. In parallel mode, rows are copied
+// (and possibly resampled) in parallel, and columns are split in blocks which
+// are updated independently, with same operations in same order as in
+// sequential mode : statistics are then bit-for-bit identical.
+//---------------------------------------------------------------------------------
+// Standard deviation is the sample standard deviation (M2/(n-1)). Confidence
+// bands use the legacy normalization of Tools.computeStandardDeviation (integer
+// ratio n/(n-1) applied to population variance) so that their output is
+// unchanged : it is kept in a separate, explicitly named method.
+//---------------------------------------------------------------------------------
+// Date : 18/10/2026
+//=================================================================================
+
+class ColumnStatistics {
+
+	// Matrix dimensions
+	private int curves;
+	private int resolution;
+
+	// Values (row-major, one row per curve)
+	private double[] MATRIX;
+
+	// Running statistics of each column
+	private double[] MEAN;
+	private double[] M2;
+
+	// Number of columns per parallel task
+	private static final int BLOCK = 64;
+
+	// Getters
+	protected int getCurvesNumber(){return curves;}
+	protected int getResolution(){return resolution;}
+	protected double[] getMatrix(){return MATRIX;}
+	protected double[] getMeans(){return MEAN;}
+	protected double getMean(int i){return MEAN[i];}
+
+
+	// ---------------------------------------------------------------------------
+	// Constructor from rows of same size (one row per curve)
+	// ---------------------------------------------------------------------------
+	protected ColumnStatistics(double[][] ROWS){
+
+		this(ROWS, null);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Constructor from rows of same size (one row per curve)
+	// Computation is run in fork/join pool (sequential mode if null)
+	// ---------------------------------------------------------------------------
+	protected ColumnStatistics(double[][] ROWS, ForkJoinPool pool){
+
+		this.curves = ROWS.length;
+		this.resolution = ROWS[0].length;
+
+		for (int j=0; j<curves; j++){
+
+			if (ROWS[j].length != resolution){
+
+				System.err.println("Error : all curves must be sampled on same resolution to compute statistics");
+				System.exit(1);
+
+			}
+
+		}
+
+		MATRIX = new double[curves*resolution];
+
+		ParallelLoop.forEach(pool, 0, curves, 16, j -> System.arraycopy(ROWS[j], 0, MATRIX, j*resolution, resolution));
+
+		MEAN = new double[resolution];
+		M2 = new double[resolution];
+
+		int blocks = (resolution + BLOCK - 1)/BLOCK;
+
+		ParallelLoop.forEach(pool, 0, blocks, 1, b -> update(b*BLOCK, Math.min((b+1)*BLOCK, resolution)));
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute statistics of columns [from, to) with Welford's streaming
+	// update (rows are read in order)
+	// ---------------------------------------------------------------------------
+	private void update(int from, int to){
+
+		for (int j=0; j<curves; j++){
+
+			int offset = j*resolution;
+
+			double inverse = 1.0/(j+1);
+
+			for (int i=from; i<to; i++){
+
+				double value = MATRIX[offset+i];
+
+				double delta = value - MEAN[i];
+
+				MEAN[i] += delta*inverse;
+				M2[i] += delta*(value - MEAN[i]);
+
+			}
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get statistics of false positive rates of a ROC curves set
+	// ---------------------------------------------------------------------------
+	protected static ColumnStatistics ofFalsePositiveRates(RocCurvesCollection ROCS, ForkJoinPool pool){
+
+		double[][] ROWS = new double[ROCS.size()][];
+
+		for (int j=0; j<ROCS.size(); j++){
+
+			ROWS[j] = ROCS.get(j).getXRoc();
+
+		}
+
+		return new ColumnStatistics(ROWS, pool);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get statistics of true positive rates of a ROC curves set
+	// ---------------------------------------------------------------------------
+	protected static ColumnStatistics ofTruePositiveRates(RocCurvesCollection ROCS, ForkJoinPool pool){
+
+		double[][] ROWS = new double[ROCS.size()][];
+
+		for (int j=0; j<ROCS.size(); j++){
+
+			ROWS[j] = ROCS.get(j).getYRoc();
+
+		}
+
+		return new ColumnStatistics(ROWS, pool);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get statistics of true positive rates of a ROC curves set
+	// vertically resampled on a regular grid
+	// ---------------------------------------------------------------------------
+	protected static ColumnStatistics ofResampledTruePositiveRates(RocCurvesCollection ROCS, int resolution, ForkJoinPool pool){
+
+		double[][] ROWS = new double[ROCS.size()][];
+
+		// Interpolation (one task per curve)
+		ParallelLoop.forEach(pool, 0, ROCS.size(), 1, j -> ROWS[j] = ROCS.get(j).resample(resolution).getYRoc());
+
+		return new ColumnStatistics(ROWS, pool);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get value of a curve at a position
+	// ---------------------------------------------------------------------------
+	protected double get(int curve, int i){
+
+		return MATRIX[curve*resolution+i];
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get sample standard deviation of a column
+	// ---------------------------------------------------------------------------
+	protected double getStandardDeviation(int i){
+
+		checkCurvesNumber();
+
+		return Math.sqrt(Math.max(M2[i], 0)/(curves-1));
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get standard deviation of a column as computed by legacy
+	// Tools.computeStandardDeviation (integer ratio n/(n-1), i.e. 2 for 2 curves
+	// and 1 otherwise). Only used by confidence bands for backward compatibility.
+	// ---------------------------------------------------------------------------
+	protected double getLegacyStandardDeviation(int i){
+
+		checkCurvesNumber();
+
+		int ratio = curves/(curves-1);
+
+		return Math.sqrt(ratio*Math.max(M2[i], 0)/curves);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to check that standard deviation is defined (at least 2 curves)
+	// ---------------------------------------------------------------------------
+	private void checkCurvesNumber(){
+
+		if (curves < 2){
+
+			System.err.println("Error : at least 2 curves are required to compute standard deviation");
+			System.exit(1);
+
+		}
+
+	}
+
+}
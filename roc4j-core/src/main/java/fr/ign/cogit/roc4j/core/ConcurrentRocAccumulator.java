@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+
+//=================================================================================
+// Thread-safe version of ROC accumulator
+// Each score bin holds two LongAdder counters (positive and negative instances),
+// so that any number of threads may record classifier outputs concurrently 
+// without lock nor contention. A reader may take a snapshot at any time : bins 
+// counters are summed once and instances numbers are derived from the same 
+// sums, hence snapshot curve is always consistent (ending at (1,1)).
+// Date : 18/10/2026
+//=================================================================================
+
+public class ConcurrentRocAccumulator {
+
+	// Binning
+	private int bins;
+	private double min;
+	private double max;
+
+	// Histograms (positive and negative counters, swapped at once on reset)
+	private AtomicReference<LongAdder[][]> COUNTS;
+
+	// Getters
+	public int getBinsNumber(){return bins;}
+	public double getMin(){return min;}
+	public double getMax(){return max;}
+
+
+	// ---------------------------------------------------------------------------
+	// Main constructor (1000 bins on [0,1])
+	// ---------------------------------------------------------------------------
+	public ConcurrentRocAccumulator(){
+
+		this(1000);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Main constructor bis (bins on [0,1])
+	// ---------------------------------------------------------------------------
+	public ConcurrentRocAccumulator(int bins){
+
+		this(bins, 0.0, 1.0);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Main constructor ter
+	// ---------------------------------------------------------------------------
+	public ConcurrentRocAccumulator(int bins, double min, double max){
+
+		if (bins < 1){
+
+			System.err.println("Error : number of bins must be strictly positive");
+			System.exit(1);
+
+		}
+
+		if (!(max > min)){
+
+			System.err.println("Error : upper bound of scores must be greater than lower bound");
+			System.exit(1);
+
+		}
+
+		this.bins = bins;
+		this.min = min;
+		this.max = max;
+
+		this.COUNTS = new AtomicReference<LongAdder[][]>(makeCounters(bins));
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to create zero counters (positive and negative)
+	// ---------------------------------------------------------------------------
+	private static LongAdder[][] makeCounters(int bins){
+
+		LongAdder[][] counters = new LongAdder[2][bins];
+
+		for (int i=0; i<bins; i++){
+
+			counters[0][i] = new LongAdder();
+			counters[1][i] = new LongAdder();
+
+		}
+
+		return counters;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to add one instance (thread-safe)
+	// ---------------------------------------------------------------------------
+	public void add(int expected, double score){
+
+		if (Double.isNaN(score)){
+
+			return;
+
+		}
+
+		int index = RocAccumulator.getBinIndex(score, min, max, bins);
+
+		LongAdder[][] counters = COUNTS.get();
+
+		if (expected == 1){
+
+			counters[0][index].increment();
+
+		}
+
+		if (expected == 0){
+
+			counters[1][index].increment();
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to add a batch of instances (thread-safe)
+	// ---------------------------------------------------------------------------
+	public void add(int[] expected, double[] scores){
+
+		if (expected.length != scores.length){
+
+			System.err.println("Error : expected and probabilities vectors must have same dimension");
+			System.exit(1);
+
+		}
+
+		for (int i=0; i<expected.length; i++){
+
+			add(expected[i], scores[i]);
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to take a snapshot of counters
+	// ---------------------------------------------------------------------------
+	public RocAccumulator snapshot(){
+
+		return snapshot(false);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to take a snapshot of counters and reset them (e.g. for time windows)
+	// Counters are replaced by new ones in a single atomic swap, hence snapshot
+	// covers a consistent window. An instance added by a thread which fetched
+	// counters just before the swap may however be missed by both this snapshot
+	// and the next one (no locking on the recording path).
+	// ---------------------------------------------------------------------------
+	public RocAccumulator snapshotAndReset(){
+
+		return snapshot(true);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to take a snapshot of counters
+	// ---------------------------------------------------------------------------
+	private RocAccumulator snapshot(boolean reset){
+
+		RocAccumulator accumulator = new RocAccumulator(bins, min, max);
+
+		LongAdder[][] counters = reset ? COUNTS.getAndSet(makeCounters(bins)) : COUNTS.get();
+
+		for (int i=0; i<bins; i++){
+
+			accumulator.addCounts(i, counters[0][i].sum(), counters[1][i].sum());
+
+		}
+
+		return accumulator;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute ROC curve snapshot (bins + 1 vertices)
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics getRoc(){
+
+		return snapshot().getRoc();
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute Area Under Curve snapshot
+	// ---------------------------------------------------------------------------
+	public double computeAUC(){
+
+		return snapshot().computeAUC();
+
+	}
+
+}
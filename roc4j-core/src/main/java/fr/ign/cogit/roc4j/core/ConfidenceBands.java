@@ -12,14 +12,10 @@
 
 package fr.ign.cogit.roc4j.core;
 
-import java.awt.Color;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
-import fr.ign.cogit.roc4j.graphics.ColorMap;
-import fr.ign.cogit.roc4j.graphics.OperatingArea;
-import fr.ign.cogit.roc4j.graphics.OperatingLine;
-import fr.ign.cogit.roc4j.graphics.OperatingPoint;
 import fr.ign.cogit.roc4j.utils.Tools;
 
 
@@ -28,7 +24,8 @@ import fr.ign.cogit.roc4j.utils.Tools;
 // Requires a ReceivingOperatorCharacteristic object, a confidence level (between 
 // 0 and 100 in %) and a computation method (integer listed in top of the code) 
 // It is also possible (for some of the methods) to specify the distribution 
-// assumption between normal (or binormal) and binomial.
+// assumption between normal (or binormal) and binomial. Colors are stored as 
+// 32 bits ARGB integers (see roc4j-graphics for plotting and raster making).
 // Date : 12/01/2017
 //=================================================================================
 
@@ -39,6 +36,7 @@ public class ConfidenceBands {
 	public static int METHOD_THRESHOLD_AVERAGING = 2;
 	public static int METHOD_KOLMOGOROV_SMIRNOV = 3;
 	public static int METHOD_FIXED_WIDTH_BAND = 4;
+	public static int METHOD_BOOTSTRAP_PERCENTILE = 5;
 
 	// Distribution
 	public static int DISTRIBUTION_NORMAL = 1;
@@ -69,8 +67,8 @@ public class ConfidenceBands {
 	private int resolution;
 
 	// Graphics
-	private Color color = new Color(0.f,1.f,0.f,0.15f);
-	private Color borderColor = Color.GREEN;
+	private int color = Tools.argb(0.f, 1.f, 0.f, 0.15f);
+	private int borderColor = 0xFF00FF00;
 	private boolean borderVisible = true;
 	private boolean backgroundFilled = true;
 
@@ -99,7 +97,7 @@ public class ConfidenceBands {
 	private double thickness = 1.0;
 	private boolean errorBarsVisible = false;
 	private boolean errorBarsModeXy = false;
-	private Color errorBarsColor = Color.BLACK;
+	private int errorBarsColor = 0xFF000000;
 
 	// Dichotomy iteration number
 	private static double fixedBwSearchIterationNumber = 8;
@@ -110,6 +108,12 @@ public class ConfidenceBands {
 	// Verbose mode
 	private static boolean verbose = false;
 
+	// Fork/join pool for parallel computation (sequential if null)
+	private static ForkJoinPool forkJoinPool = null;
+
+	// Number of grid positions under which a parallel task is not split
+	private static final int GRAIN = 64;
+
 	// Central Roc curve
 	private ReceiverOperatingCharacteristics centralRoc;
 
@@ -118,14 +122,14 @@ public class ConfidenceBands {
 	private double[] h;
 
 	// Setters
-	public void setColor(Color color){this.color = color;}
-	public void setBordersColor(Color color){this.borderColor = color;}
+	public void setColor(int color){this.color = color;}
+	public void setBordersColor(int color){this.borderColor = color;}
 	public void setBordersVisible(boolean bool){this.borderVisible = bool;}
 	public void setBackgroundVisible(boolean bool){this.backgroundFilled = bool;}
 	public void setErrorBarsWidth(double w){horizontal = w;}
 	public void setErrorBarsResolution(double r){ecart = r;}
 	public void setErrorBarsThickness(double t){thickness = t;}
-	public void setErrorBarsColor(Color c){errorBarsColor = c;}
+	public void setErrorBarsColor(int c){errorBarsColor = c;}
 	public void setErrorBarsVisible(boolean visible){errorBarsVisible = visible;}
 
 	public void setDashLength(int l){dash_on = l;}
@@ -134,6 +138,8 @@ public class ConfidenceBands {
 	public static void setVerbose(boolean bool){verbose = bool;}
 	public static void setfixedBwSearchIterationNumber(int n){fixedBwSearchIterationNumber = n;}
 	public static void setfixedBwSearchResolution(double r){fixedBwSearchResolution = r;}
+	public static void setForkJoinPool(ForkJoinPool pool){forkJoinPool = pool;}
+	public static void setParallel(boolean bool){forkJoinPool = bool ? ForkJoinPool.commonPool() : null;}
 
 
 	public void setErrorBarsModeXY(boolean bool){
@@ -151,6 +157,9 @@ public class ConfidenceBands {
 			if (method == METHOD_FIXED_WIDTH_BAND){
 				met = "fixed band-width";
 			}
+			if (method == METHOD_BOOTSTRAP_PERCENTILE){
+				met = "bootstrap percentile";
+			}
 
 			System.err.println("Error : XY mode for error bars is not valid for "+met+" computation method");
 			System.exit(1);
@@ -163,30 +172,26 @@ public class ConfidenceBands {
 
 	public void setErrorBarsTransparency(float t){
 
-		float r = (float)(errorBarsColor.getRed()/255.0);
-		float v = (float)(errorBarsColor.getGreen()/255.0);
-		float b = (float)(errorBarsColor.getBlue()/255.0);
-
-		errorBarsColor = new Color(r, v, b, t);
+		errorBarsColor = Tools.argb(errorBarsColor, t);
 
 	}
 
 
 	public void setTransparency(float transparency){
 
-		this.color = new Color(color.getRed()/255.0f, color.getGreen()/255.0f, color.getBlue()/255.0f, transparency);
+		this.color = Tools.argb(color, transparency);
 
 	}
 
 	public void setBordersTransparency(float transparency){
 
-		this.borderColor = new Color(borderColor.getRed()/255.0f, borderColor.getGreen()/255.0f, borderColor.getBlue()/255.0f, transparency);
+		this.borderColor = Tools.argb(borderColor, transparency);
 
 	}
 
 
 	// Getters
-	public Color getColor(){return this.color;}
+	public int getColor(){return this.color;}
 	public int getResolution(){return this.resolution;}
 	public int getMethod(){return this.method;}
 	public ReceiverOperatingCharacteristics getCentralROC(){return centralRoc;}
@@ -205,7 +210,7 @@ public class ConfidenceBands {
 	public double getConfidenceLevel(){return this.confidenceLevel;}
 	public double getZValue(){return this.zValue;}
 
-	public Color getBordersColor(){return borderColor;}
+	public int getBordersColor(){return borderColor;}
 	public boolean isBordersColorVisible(){return borderVisible;}
 	public boolean isBackgroundFilled(){return backgroundFilled;}
 
@@ -214,7 +219,7 @@ public class ConfidenceBands {
 	public double getErrorBarsThickness(){return thickness;}
 	public boolean getErrorBarsVisible(){return errorBarsVisible;}
 	public boolean getErrorBarsModeXY(){return errorBarsModeXy;}
-	public Color getErrorBarsColor(){return errorBarsColor;}
+	public int getErrorBarsColor(){return errorBarsColor;}
 
 	public int getDashLength(){return dash_on;}
 	public int getDashInterval(){return dash_off;}
@@ -316,6 +321,18 @@ public class ConfidenceBands {
 	// ---------------------------------------------------------------------------
 	public ConfidenceBands(RocCurvesCollection rocs, int method, double confidenceLevel, int distribution){
 
+		this(rocs, method, confidenceLevel, distribution, new BandStatistics(rocs, method, forkJoinPool));
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Constructor from statistics of ROC curves set (possibly shared between
+	// several confidence levels)
+	// ---------------------------------------------------------------------------
+	private ConfidenceBands(RocCurvesCollection rocs, int method, double confidenceLevel, int distribution, BandStatistics statistics){
+
+		// Parallel mode (results are identical to sequential mode)
+		ForkJoinPool pool = forkJoinPool;
 
 		// Control
 		if ((confidenceLevel >= 100) || (confidenceLevel <= 0)){
@@ -332,6 +349,13 @@ public class ConfidenceBands {
 
 		}
 
+		if (method == METHOD_BOOTSTRAP_PERCENTILE){
+
+			System.err.println("Error : bootstrap percentile bands must be computed with PercentileBandsAccumulator");
+			System.exit(1);
+
+		}
+
 
 		if (method != METHOD_KOLMOGOROV_SMIRNOV){
 
@@ -416,50 +440,28 @@ public class ConfidenceBands {
 			// Effective size
 			int size_eff = rocs.areRocCurvesStatisticallyIndependent() ? rocs.size() : 1;
 
-			// Interpolation
-
-			ArrayList<Double[]> INTERPOLATED = new ArrayList<Double[]>();
+			// Interpolation and statistics
 
-			for (int i=0; i<ROCS.size(); i++){
-
-				double[] a = ROCS.get(i).resample().getYRoc();
-
-				Double[] d = new Double[a.length];
-
-				for (int j=0; j<a.length; j++){
-
-					d[j] = a[j];
-
-				}
-
-				INTERPOLATED.add(d);
-
-			}
+			ColumnStatistics statsy = statistics.getResampledTruePositiveRates(resolution);
 
 
 			// Averaging
 
-			for (int i=0; i<resolution; i++){
+			ParallelLoop.forEach(pool, 0, resolution, GRAIN, i -> {
 
 				double x = (double)(i)/(double)(resolution);
 
-				ArrayList<Double> datay = new ArrayList<Double>();
-
-				for (int j=0; j<INTERPOLATED.size(); j++){
-
-					datay.add(INTERPOLATED.get(j)[i]);
-
-				}
-
 
 				XROC[i] = x;
-				YROC[i] = Tools.computeMean(datay);
+				YROC[i] = statsy.getMean(i);
+
+				double sy = statsy.getLegacyStandardDeviation(i);
 
 				upperband_x[i] = XROC[i];
-				upperband_y[i] = YROC[i] + zValue*Tools.computeStandardDeviation(datay)/Math.sqrt(size_eff);
+				upperband_y[i] = YROC[i] + zValue*sy/Math.sqrt(size_eff);
 
 				lowerband_x[i] = XROC[i];
-				lowerband_y[i] = YROC[i] - zValue*Tools.computeStandardDeviation(datay)/Math.sqrt(size_eff);
+				lowerband_y[i] = YROC[i] - zValue*sy/Math.sqrt(size_eff);
 
 				// Truncation
 				upperband_y[i] = Math.min(upperband_y[i], 1);
@@ -471,7 +473,7 @@ public class ConfidenceBands {
 				upperband_x[i] = Math.min(upperband_x[i], 1);
 				lowerband_x[i] = Math.min(lowerband_x[i], 1);
 
-			}
+			});
 
 		}
 
@@ -505,63 +507,19 @@ public class ConfidenceBands {
 
 			}
 
-			// Interpolation
-
-			ArrayList<Double[]> INTERPOLATED = new ArrayList<Double[]>();
-
-			for (int i=0; i<ROCS.size(); i++){
-
-				INTERPOLATED.add(new Double[resolution]);
-
-				for (int j=0; j<resolution; j++){
+			// Interpolation and statistics
 
-					double x = (double)(j)/(double)(resolution);
-
-					for (int k=1; k<resolution; k++){
-
-						double xk = ROCS.get(i).getXRoc()[k];
-
-						if (xk > x){
-
-							double y1 = ROCS.get(i).getYRoc()[k-1];
-							double y2 = ROCS.get(i).getYRoc()[k];
-
-							double d1 = x - ROCS.get(i).getXRoc()[k-1];
-							double d2 = xk - x;
-
-							double w1 = d2/(d1+d2);
-							double w2 = d1/(d1+d2);
-
-
-							INTERPOLATED.get(i)[j] = w1*y1+w2*y2;
-
-							break;
-
-						}
-
-					}
-
-				}
-
-			}
+			ColumnStatistics statsy = statistics.getResampledTruePositiveRates(resolution);
 
 
 			// Averaging
 
-			for (int i=0; i<resolution; i++){
+			ParallelLoop.forEach(pool, 0, resolution, GRAIN, i -> {
 
 				double x = (double)(i)/(double)(resolution);
 
-				ArrayList<Double> datay = new ArrayList<Double>();
-
-				for (int j=0; j<INTERPOLATED.size(); j++){
-
-					datay.add(INTERPOLATED.get(j)[i]);
-
-				}
-
 				XROC[i] = x;
-				YROC[i] = Tools.computeMean(datay);
+				YROC[i] = statsy.getMean(i);
 
 
 				// -----------------------------------------------------
@@ -593,7 +551,7 @@ public class ConfidenceBands {
 				upperband_x[i] = Math.min(upperband_x[i], 1);
 				lowerband_x[i] = Math.min(lowerband_x[i], 1);
 
-			}
+			});
 
 		}
 
@@ -620,23 +578,16 @@ public class ConfidenceBands {
 			H = new double[resolution];
 			h = new double[resolution];
 
-			for (int i=0; i<resolution; i++){
-
-				ArrayList<Double> datax = new ArrayList<Double>();
-				ArrayList<Double> datay = new ArrayList<Double>();
+			ColumnStatistics statsx = statistics.getFalsePositiveRates();
+			ColumnStatistics statsy = statistics.getTruePositiveRates();
 
-				for (int j=0; j<rocs.size(); j++){
+			ParallelLoop.forEach(pool, 0, resolution, GRAIN, i -> {
 
-					datax.add(rocs.get(j).getXRoc()[i]);
-					datay.add(rocs.get(j).getYRoc()[i]);
+				XROC[i] = statsx.getMean(i);
+				YROC[i] = statsy.getMean(i);
 
-				}
-
-				XROC[i] = Tools.computeMean(datax);
-				YROC[i] = Tools.computeMean(datay);
-
-				double sx = Tools.computeStandardDeviation(datax);
-				double sy = Tools.computeStandardDeviation(datay);
+				double sx = statsx.getLegacyStandardDeviation(i);
+				double sy = statsy.getLegacyStandardDeviation(i);
 
 				upperband_x[i] = XROC[i] - zValue*sx/Math.sqrt(size_eff);
 				upperband_y[i] = YROC[i] + zValue*sy/Math.sqrt(size_eff);
@@ -659,7 +610,7 @@ public class ConfidenceBands {
 				h[i] = zValue*sx/Math.sqrt(size_eff);
 
 
-			}
+			});
 
 		}
 
@@ -695,20 +646,13 @@ public class ConfidenceBands {
 			H = new double[resolution];
 			h = new double[resolution];
 
-			for (int i=0; i<resolution; i++){
-
-				ArrayList<Double> datax = new ArrayList<Double>();
-				ArrayList<Double> datay = new ArrayList<Double>();
-
-				for (int j=0; j<rocs.size(); j++){
-
-					datax.add(rocs.get(j).getXRoc()[i]);
-					datay.add(rocs.get(j).getYRoc()[i]);
+			ColumnStatistics statsx = statistics.getFalsePositiveRates();
+			ColumnStatistics statsy = statistics.getTruePositiveRates();
 
-				}
+			ParallelLoop.forEach(pool, 0, resolution, GRAIN, i -> {
 
-				XROC[i] = Tools.computeMean(datax);
-				YROC[i] = Tools.computeMean(datay);
+				XROC[i] = statsx.getMean(i);
+				YROC[i] = statsy.getMean(i);
 
 
 				double quotientP = TP+Math.pow(zValue,2);
@@ -748,7 +692,7 @@ public class ConfidenceBands {
 				H[i] = zValue*Math.sqrt(YROC[i]*(1-YROC[i])/TP);
 				h[i] = zValue*Math.sqrt(XROC[i]*(1-XROC[i])/TN);
 
-			}
+			});
 
 		}
 
@@ -804,23 +748,21 @@ public class ConfidenceBands {
 			// Average ROC curve
 			// ------------------------------------------------------------
 
-			for (int i=0; i<resolution; i++){
-
-				ArrayList<Double> datax = new ArrayList<Double>();
-				ArrayList<Double> datay = new ArrayList<Double>();
+			ColumnStatistics statsx = statistics.getFalsePositiveRates();
+			ColumnStatistics statsy = statistics.getTruePositiveRates();
 
-				for (int j=0; j<rocs.size(); j++){
-
-					datax.add(rocs.get(j).getXRoc()[i]);
-					datay.add(rocs.get(j).getYRoc()[i]);
-
-				}
+			for (int i=0; i<resolution; i++){
 
-				XROC[i] = Tools.computeMean(datax);
-				YROC[i] = Tools.computeMean(datay);
+				XROC[i] = statsx.getMean(i);
+				YROC[i] = statsy.getMean(i);
 
 			}
 
+			// Orientation of average ROC curve (vertices may be sorted by
+			// decreasing FPR, i.e. from (1,1) to (0,0))
+			int last = resolution-1;
+			boolean descending = (XROC[0] > XROC[last]) || ((XROC[0] == XROC[last]) && (YROC[0] > YROC[last]));
+
 			// ----------------------------------------------------------------
 			// Dichotomic search of band-width b
 			// ----------------------------------------------------------------
@@ -859,30 +801,28 @@ public class ConfidenceBands {
 					upperband_x[i] = Math.min(upperband_x[i], 1);
 					lowerband_x[i] = Math.min(lowerband_x[i], 1);
 
+				}
 
-					// Correction
-					if (upperband_y[0] > 0.5){
-
-						upperband_x[0] = 1.0; 
-						upperband_y[0] = 1.0; 
-
-						upperband_x[upperband_y.length-1] = 0.0; 
-						upperband_y[upperband_y.length-1] = 0.0;
+				// Correction (band end points from curve orientation)
+				if (descending){
 
-					}
-					else{
+					upperband_x[0] = 1.0; 
+					upperband_y[0] = 1.0; 
 
-						upperband_x[0] = 0.0; 
-						upperband_y[0] = 0.0; 
+					upperband_x[upperband_y.length-1] = 0.0; 
+					upperband_y[upperband_y.length-1] = 0.0;
 
-						lowerband_x[0] = 0.0; 
-						lowerband_y[0] = 0.0;
+				}
+				else{
 
-						upperband_x[upperband_y.length-1] = 1.0; 
-						upperband_y[upperband_y.length-1] = 1.0;
+					upperband_x[0] = 0.0; 
+					upperband_y[0] = 0.0; 
 
-					}
+					lowerband_x[0] = 0.0; 
+					lowerband_y[0] = 0.0;
 
+					upperband_x[upperband_y.length-1] = 1.0; 
+					upperband_y[upperband_y.length-1] = 1.0;
 
 				}
 
@@ -915,21 +855,31 @@ public class ConfidenceBands {
 				// ROC curve inclusion test
 				// ------------------------------------------------------------
 
-				// For each point in ROC space
+				// Monotone edges are tested with binary search (polygon
+				// inclusion test is kept for non-monotone edges)
+				BandEnvelope upper = BandEnvelope.of(upperband_x, upperband_y, true);
+				BandEnvelope lower = BandEnvelope.of(lowerband_x, lowerband_y, false);
+
+				boolean monotone = (upper != null) && (lower != null);
 
-				for (int i=0; i<rocs.size(); i++){
+				// For each ROC curve (one task per curve)
 
-					// For each ROC curve
+				ParallelLoop.forEach(pool, 0, rocs.size(), 1, i -> {
 
 					// Resolution computation
 					int res_roc = (int)(rocs.get(i).resolution/fixedBwSearchResolution);
 					res_roc = Math.min(res_roc, rocs.get(i).resolution);
 					res_roc = Math.max(res_roc, 1);
 
-					for (int j=0; j<rocs.get(i).getXRoc().length; j+=res_roc){
+					double[] X = rocs.get(i).getXRoc();
+					double[] Y = rocs.get(i).getYRoc();
 
-						double x = rocs.get(i).getXRoc()[j];
-						double y = rocs.get(i).getYRoc()[j];
+					// For each point in ROC space
+
+					for (int j=0; j<X.length; j+=res_roc){
+
+						double x = X[j];
+						double y = Y[j];
 
 						// Remove non robust side points
 						if (x*(1-x) + y*(1-y) <= 0.02){
@@ -938,8 +888,10 @@ public class ConfidenceBands {
 
 						}
 
-						// Inclusion test
-						if (!Tools.inside(x, y, poly_x, poly_y)){
+						// Inclusion test (stops at first outlying point)
+						boolean inside = monotone ? BandEnvelope.between(x, y, lower, upper) : Tools.inside(x, y, poly_x, poly_y);
+
+						if (!inside){
 
 							outlier[i] = true;
 							break;
@@ -948,7 +900,7 @@ public class ConfidenceBands {
 
 					}
 
-				}
+				});
 
 				// ------------------------------------------------------------
 				// Computing ratio of ROC curve in confidence bands
@@ -1068,30 +1020,22 @@ public class ConfidenceBands {
 			}
 
 
-			// For each point in ROC space
-			for (int i=0; i<resolution; i++){
-
-				ArrayList<Double> datax = new ArrayList<Double>();
-				ArrayList<Double> datay = new ArrayList<Double>();
-
-				// For each ROC curve
-				for (int j=0; j<rocs.size(); j++){
+			ColumnStatistics statsx = statistics.getFalsePositiveRates();
+			ColumnStatistics statsy = statistics.getTruePositiveRates();
 
-					datax.add(rocs.get(j).getXRoc()[i]);
-					datay.add(rocs.get(j).getYRoc()[i]);
-
-				}
+			// For each point in ROC space
+			ParallelLoop.forEach(pool, 0, resolution, GRAIN, i -> {
 
-				XROC[i] = Tools.computeMean(datax);
-				YROC[i] = Tools.computeMean(datay);
+				XROC[i] = statsx.getMean(i);
+				YROC[i] = statsy.getMean(i);
 
 				// Computing confidence bands
 
-				upperband_x[i] = XROC[i] - zv/Math.sqrt(TN);
-				upperband_y[i] = YROC[i] + zv/Math.sqrt(TP);
+				upperband_x[i] = XROC[i] - zValue/Math.sqrt(TN);
+				upperband_y[i] = YROC[i] + zValue/Math.sqrt(TP);
 
-				lowerband_x[i] = XROC[i] + zv/Math.sqrt(TN);
-				lowerband_y[i] = YROC[i] - zv/Math.sqrt(TP);
+				lowerband_x[i] = XROC[i] + zValue/Math.sqrt(TN);
+				lowerband_y[i] = YROC[i] - zValue/Math.sqrt(TP);
 
 				// Truncation
 				upperband_y[i] = Math.min(upperband_y[i], 1);
@@ -1103,35 +1047,83 @@ public class ConfidenceBands {
 				upperband_x[i] = Math.min(upperband_x[i], 1);
 				lowerband_x[i] = Math.min(lowerband_x[i], 1);
 
-				// Correction
-				if (upperband_y[0] > 0.5){
+			});
 
-					upperband_x[0] = 1.0; 
-					upperband_y[0] = 1.0; 
+			// Orientation of average ROC curve (vertices may be sorted by
+			// decreasing FPR, i.e. from (1,1) to (0,0))
+			int last = resolution-1;
+			boolean descending = (XROC[0] > XROC[last]) || ((XROC[0] == XROC[last]) && (YROC[0] > YROC[last]));
 
-					upperband_x[upperband_y.length-1] = 0.0; 
-					upperband_y[upperband_y.length-1] = 0.0;
+			// Correction (band end points from curve orientation)
+			if (descending){
 
-				}
-				else{
+				upperband_x[0] = 1.0; 
+				upperband_y[0] = 1.0; 
 
-					upperband_x[0] = 0.0; 
-					upperband_y[0] = 0.0; 
+				upperband_x[upperband_y.length-1] = 0.0; 
+				upperband_y[upperband_y.length-1] = 0.0;
 
-					lowerband_x[0] = 0.0; 
-					lowerband_y[0] = 0.0;
+			}
+			else{
 
-					upperband_x[upperband_y.length-1] = 1.0; 
-					upperband_y[upperband_y.length-1] = 1.0;
+				upperband_x[0] = 0.0; 
+				upperband_y[0] = 0.0; 
 
-				}
+				lowerband_x[0] = 0.0; 
+				lowerband_y[0] = 0.0;
+
+				upperband_x[upperband_y.length-1] = 1.0; 
+				upperband_y[upperband_y.length-1] = 1.0;
 
 			}
 
 		}
 
 		// Resampling confidence bands
-		resample(ROCS.get(0).getResolution());
+		resample(ROCS.get(0).getResolution(), pool);
+
+		// Resampling central ROC curve
+		centralRoc = new ReceiverOperatingCharacteristics(XROC, YROC);
+		double[] T = statistics.getThresholds(resolution);
+
+		centralRoc.TROC = (T == null) ? null : Arrays.copyOf(T, T.length);
+
+		ReceiverOperatingCharacteristics roc_central_resampled = getCentralROC().resample();
+
+		FPR = roc_central_resampled.getXRoc();
+		TPR = roc_central_resampled.getYRoc();
+
+		getCentralROC().setPositiveInstancesNumber(TP);
+		getCentralROC().setNegativeInstancesNumber(TN);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Constructor from vertical bands computed on a regular FPR grid (bootstrap
+	// percentile bands, see PercentileBandsAccumulator)
+	// Inputs : FPR grid, central TPR, upper and lower bands TPR, confidence level
+	// and instances numbers
+	// ---------------------------------------------------------------------------
+	protected ConfidenceBands(double[] X, double[] Y, double[] upper, double[] lower, double confidenceLevel, int TP, int TN){
+
+		this.method = METHOD_BOOTSTRAP_PERCENTILE;
+		this.confidenceLevel = confidenceLevel;
+		this.zValue = Double.NaN;
+		this.resolution = X.length;
+
+		this.TP = TP;
+		this.TN = TN;
+
+		XROC = X;
+		YROC = Y;
+
+		upperband_x = Arrays.copyOf(X, X.length);
+		upperband_y = upper;
+		lowerband_x = Arrays.copyOf(X, X.length);
+		lowerband_y = lower;
+
+		// Resampling confidence bands
+		resample(resolution, forkJoinPool);
 
 		// Resampling central ROC curve
 		centralRoc = new ReceiverOperatingCharacteristics(XROC, YROC);
@@ -1151,6 +1143,13 @@ public class ConfidenceBands {
 	// ---------------------------------------------------------------------------
 	public double computeAUCConfidenceInterval(double confidenceLevel, int distribution){
 
+		if (ROCS == null){
+
+			System.err.println("Error : AUC confidence interval requires ROC curves set (not available for streamed bootstrap percentile bands)");
+			System.exit(1);
+
+		}
+
 		// Z-value
 		double z = Tools.getZValue(confidenceLevel/100.0);
 
@@ -1235,258 +1234,179 @@ public class ConfidenceBands {
 
 	}
 
-	// ---------------------------------------------------------------------------
-	// Method for computing confidence bands isolines
-	// ---------------------------------------------------------------------------
-	public static ArrayList<ConfidenceBands> makeConfidenceIsolines(RocCurvesCollection rocs, double confidence_min, double confidence_max, double confidence_step, ColorMap cmap){
-
-		return makeConfidenceIsolines(rocs, confidence_min, confidence_max, confidence_step, ConfidenceBands.METHOD_THRESHOLD_AVERAGING, ConfidenceBands.DISTRIBUTION_BINOMIAL, cmap);
-
-	}
-
-
 	// ---------------------------------------------------------------------------
 	// Method for computing confidence bands isolines
 	// ---------------------------------------------------------------------------
 	public static ArrayList<ConfidenceBands> makeConfidenceIsolines(RocCurvesCollection rocs, double confidence_min, double confidence_max, double confidence_step){
 
-		return makeConfidenceIsolines(rocs, confidence_min, confidence_max, confidence_step, ConfidenceBands.METHOD_THRESHOLD_AVERAGING, ConfidenceBands.DISTRIBUTION_BINOMIAL, ColorMap.TYPE_MATHS);
+		return makeConfidenceIsolines(rocs, confidence_min, confidence_max, confidence_step, ConfidenceBands.METHOD_THRESHOLD_AVERAGING, ConfidenceBands.DISTRIBUTION_BINOMIAL);
 
 	}
 
 	// ---------------------------------------------------------------------------
 	// Method for computing confidence bands isolines
+	// Isolines colors may be set from confidence levels with a color map (see 
+	// RocGraphics in roc4j-graphics)
 	// ---------------------------------------------------------------------------
-	public static ArrayList<ConfidenceBands> makeConfidenceIsolines(RocCurvesCollection rocs, double confidence_min, double confidence_max, double confidence_step, int method, int distribution, ColorMap cmap){
+	public static ArrayList<ConfidenceBands> makeConfidenceIsolines(RocCurvesCollection rocs, double confidence_min, double confidence_max, double confidence_step, int method, int distribution){
 
-		ArrayList<ConfidenceBands> BANDS = new ArrayList<ConfidenceBands>();
+		ArrayList<Double> LEVELS = new ArrayList<Double>();
 
 		for (double confidence=confidence_min; confidence<=confidence_max; confidence+=confidence_step){
 
-			ConfidenceBands bands = new ConfidenceBands(rocs, method, confidence, distribution);
-
-			bands.setBackgroundVisible(false);
-			bands.setBordersColor(cmap.interpolate(confidence, confidence_min, confidence_max));
-			bands.setDashInterval(0);
-
-			BANDS.add(bands);
+			LEVELS.add(confidence);
 
 		}
 
-		return BANDS;
+		double[] levels = new double[LEVELS.size()];
 
-	}
+		for (int i=0; i<levels.length; i++){
 
-	// ---------------------------------------------------------------------------
-	// Method for computing confidence bands raster
-	// ---------------------------------------------------------------------------
-	public static ArrayList<OperatingArea> makeConfidenceRaster(RocCurvesCollection rocs){
+			levels[i] = LEVELS.get(i);
 
-		return makeConfidenceRaster(rocs, 1, 99, 1);
-
-	}
+		}
 
-	// ---------------------------------------------------------------------------
-	// Method for computing confidence bands raster
-	// ---------------------------------------------------------------------------
-	public static ArrayList<OperatingArea> makeConfidenceRaster(RocCurvesCollection rocs, double confidence_min, double confidence_max, double confidence_step, ColorMap cmap){
+		ArrayList<ConfidenceBands> BANDS = makeConfidenceBands(rocs, method, levels, distribution);
 
-		return makeConfidenceRaster(rocs, confidence_min, confidence_max, confidence_step, ConfidenceBands.METHOD_THRESHOLD_AVERAGING, ConfidenceBands.DISTRIBUTION_BINORMAL, cmap);
-
-	}
+		for (ConfidenceBands bands : BANDS){
 
+			bands.setBackgroundVisible(false);
+			bands.setDashInterval(0);
 
-	// ---------------------------------------------------------------------------
-	// Method for computing confidence bands raster
-	// ---------------------------------------------------------------------------
-	public static ArrayList<OperatingArea> makeConfidenceRaster(RocCurvesCollection rocs, double confidence_min, double confidence_max, double confidence_step){
+		}
 
-		return makeConfidenceRaster(rocs, confidence_min, confidence_max, confidence_step, ConfidenceBands.METHOD_THRESHOLD_AVERAGING, ConfidenceBands.DISTRIBUTION_BINORMAL, ColorMap.TYPE_MATHS);
+		return BANDS;
 
 	}
 
 	// ---------------------------------------------------------------------------
-	// Method for computing confidence bands raster
+	// Method for computing confidence bands at several confidence levels
+	// Curves are interpolated and averaged only once (statistics are shared by
+	// all levels), then bands of each level are derived in O(resolution), except
+	// for fixed-width band method which requires a band-width search per level.
+	// Output : one confidence bands object per level (in same order)
 	// ---------------------------------------------------------------------------
-	public static ArrayList<OperatingArea> makeConfidenceRaster(RocCurvesCollection rocs, double confidence_min, double confidence_max, double confidence_step, int method, int distribution, ColorMap cmap){
+	public static ArrayList<ConfidenceBands> makeConfidenceBands(RocCurvesCollection rocs, int method, double[] confidenceLevels, int distribution){
 
-		ArrayList<OperatingArea> BANDS = new ArrayList<OperatingArea>();
+		BandStatistics statistics = new BandStatistics(rocs, method, forkJoinPool);
 
-		Color borders = new Color(0.f, 0.f, 0.f, 0.f);
-
-		double conf = 0;
-
-		// For each confidence level
-		for (double confidence=confidence_max-confidence_step; confidence>=confidence_min+confidence_step; confidence-=confidence_step){
-
-			// Update
-			conf = confidence;
-
-			// Boundary line
-			OperatingLine lineU = new OperatingLine();
-			OperatingLine lineL = new OperatingLine();
-
-			// Confidence bands computation
-			ConfidenceBands bands1 = new ConfidenceBands(rocs, method, confidence, distribution);
-			ConfidenceBands bands2 = new ConfidenceBands(rocs, method, confidence+confidence_step, distribution);
-
-			// Lower boundary 1
-			for (int j=0; j<bands1.getUpperBandX().length; j++){
-
-				lineU.addOperatingPoint(new OperatingPoint(bands1.getUpperBandX()[j], bands1.getUpperBandY()[j]));
-
-			}
-
-			// Lower boundary 2
-			for (int j=bands2.getUpperBandX().length-1; j>=0; j--){
+		ArrayList<ConfidenceBands> BANDS = new ArrayList<ConfidenceBands>();
 
-				lineU.addOperatingPoint(new OperatingPoint(bands2.getUpperBandX()[j], bands2.getUpperBandY()[j]));
+		for (int i=0; i<confidenceLevels.length; i++){
 
-			}
+			BANDS.add(new ConfidenceBands(rocs, method, confidenceLevels[i], distribution, statistics));
 
-			// Lower boundary 1
-			for (int j=0; j<bands1.getLowerBandX().length; j++){
+		}
 
-				lineL.addOperatingPoint(new OperatingPoint(bands1.getLowerBandX()[j], bands1.getLowerBandY()[j]));
+		return BANDS;
 
-			}
+	}
 
-			// Lower boundary 2
-			for (int j=bands2.getLowerBandX().length-1; j>=0; j--){
 
-				lineL.addOperatingPoint(new OperatingPoint(bands2.getLowerBandX()[j], bands2.getLowerBandY()[j]));
+	// ---------------------------------------------------------------------------
+	// Method for resampling confidence bands
+	// ---------------------------------------------------------------------------
+	private void resample(int new_resolution, ForkJoinPool pool){
 
-			}
+		FPR_upper = new double[new_resolution];
+		TPR_upper = new double[new_resolution];
 
-			// Boundary closure
-			lineU.addOperatingPoint(lineU.getOperatingPoint(0));
-			lineL.addOperatingPoint(lineL.getOperatingPoint(0));
+		FPR_lower = new double[new_resolution];
+		TPR_lower = new double[new_resolution];
 
-			// Polygonization
-			OperatingArea areaU = new OperatingArea(lineU);
-			OperatingArea areaL = new OperatingArea(lineL);
+		boolean sorted_upper = isSorted(upperband_x);
+		boolean sorted_lower = isSorted(lowerband_x);
 
-			// Style
-			areaU.setBackGroundColor(cmap.interpolate(confidence, confidence_min, confidence_max));
-			areaU.setBorderColor(borders);
-			areaL.setBackGroundColor(cmap.interpolate(confidence, confidence_min, confidence_max));
-			areaL.setBorderColor(borders);
+		// Positions are independent
+		ParallelLoop.forEach(pool, 0, new_resolution, GRAIN, j -> {
 
-			BANDS.add(areaU);
-			BANDS.add(areaL);
+			double x = (double)(j)/(double)(new_resolution);
 
-		}
+			FPR_upper[j] = x;
+			FPR_lower[j] = x;
 
-		// Central band
+			int k = nextVertex(upperband_x, sorted_upper, x);
 
-		ConfidenceBands bands = new ConfidenceBands(rocs, method, conf, distribution);
+			if (k < resolution){
 
-		OperatingLine line = new OperatingLine();
+				double y1 = upperband_y[k-1];
+				double y2 = upperband_y[k];
 
-		// Upper boundary 
-		for (int j=0; j<bands.getUpperBandX().length; j++){
+				double d1 = x - upperband_x[k-1];
+				double d2 = upperband_x[k] - x;
 
-			line.addOperatingPoint(new OperatingPoint(bands.getUpperBandX()[j], bands.getUpperBandY()[j]));
+				double w1 = d2/(d1+d2);
+				double w2 = d1/(d1+d2);
 
-		}
+				TPR_upper[j] = w1*y1+w2*y2;
 
-		// Lower boundary 2
-		for (int j=bands.getLowerBandX().length-1; j>=0; j--){
+			}
 
-			line.addOperatingPoint(new OperatingPoint(bands.getLowerBandX()[j], bands.getLowerBandY()[j]));
+			k = nextVertex(lowerband_x, sorted_lower, x);
 
-		}
+			if (k < resolution){
 
-		// Boundary closure
-		line.addOperatingPoint(line.getOperatingPoint(0));
+				double y1 = lowerband_y[k-1];
+				double y2 = lowerband_y[k];
 
-		// Polygonization
-		OperatingArea area = new OperatingArea(line);
+				double d1 = x - lowerband_x[k-1];
+				double d2 = lowerband_x[k] - x;
 
-		// Style
-		area.setBackGroundColor(cmap.interpolate(conf, confidence_min, confidence_max));
-		area.setBorderColor(borders);
+				double w1 = d2/(d1+d2);
+				double w2 = d1/(d1+d2);
 
-		BANDS.add(area);
+				TPR_lower[j] = w1*y1+w2*y2;
 
+			}
 
-		return BANDS;
+		});
 
 	}
 
-
 	// ---------------------------------------------------------------------------
-	// Method for resampling confidence bands
+	// Method to find first vertex (from index 1) with FPR strictly greater than x
+	// Binary search if band FPR are sorted, linear scan otherwise
+	// Output : vertex index (resolution if there is no such vertex)
 	// ---------------------------------------------------------------------------
-	private void resample(int new_resolution){
-
-		FPR_upper = new double[new_resolution];
-		TPR_upper = new double[new_resolution];
-
-		FPR_lower = new double[new_resolution];
-		TPR_lower = new double[new_resolution];
-
-		FPR_upper[0] = 0;
-		TPR_upper[0] = 0;
-		FPR_lower[0] = 0;
-		TPR_lower[0] = 0;
-
-		for (int j=0; j<new_resolution; j++){
+	private int nextVertex(double[] X, boolean sorted, double x){
 
-			double x = (double)(j)/(double)(new_resolution);
-
-			FPR_upper[j] = x;
-			FPR_lower[j] = x;
+		if (sorted){
 
-			for (int k=1; k<resolution; k++){
+			return Math.max(Tools.upperBound(X, x), 1);
 
-				double xk = upperband_x[k];
-
-				if (xk > x){
-
-					double y1 = upperband_y[k-1];
-					double y2 = upperband_y[k];
-
-					double d1 = x - upperband_x[k-1];
-					double d2 = xk - x;
-
-					double w1 = d2/(d1+d2);
-					double w2 = d1/(d1+d2);
+		}
 
+		for (int k=1; k<resolution; k++){
 
-					TPR_upper[j] = w1*y1+w2*y2;
-					break;
+			if (X[k] > x){
 
-				}
+				return k;
 
 			}
 
-			for (int k=1; k<resolution; k++){
-
-				double xk = lowerband_x[k];
-
-				if (xk > x){
+		}
 
-					double y1 = lowerband_y[k-1];
-					double y2 = lowerband_y[k];
+		return resolution;
 
-					double d1 = x - lowerband_x[k-1];
-					double d2 = xk - x;
+	}
 
-					double w1 = d2/(d1+d2);
-					double w2 = d1/(d1+d2);
+	// ---------------------------------------------------------------------------
+	// Method to test if values are sorted in increasing order
+	// ---------------------------------------------------------------------------
+	private static boolean isSorted(double[] X){
 
+		for (int k=1; k<X.length; k++){
 
-					TPR_lower[j] = w1*y1+w2*y2;
-					break;
+			if (X[k] < X[k-1]){
 
-				}
+				return false;
 
 			}
 
 		}
 
+		return true;
+
 	}
 
 }
-
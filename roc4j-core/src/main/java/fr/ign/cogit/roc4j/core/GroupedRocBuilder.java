@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+
+//=================================================================================
+// Static class for computing ROC curves of many groups of instances at once
+// Instances are given as columns (group key, expected class, score). Group keys
+// are mapped to dense indices in one pass, then positive and negative scores are
+// bucketed by group (counting sort) in two flat arrays. Each group segment is
+// sorted in place and walked once to get exact empirical ROC curve and exact AUC.
+// Total complexity is O(n log(n)) whatever the number and sizes of groups, and no
+// intermediate ROC curve object is built. Missing (NaN) scores are ignored.
+// Date : 18/10/2026
+//=================================================================================
+
+public class GroupedRocBuilder {
+
+	// ---------------------------------------------------------------------------
+	// Method to compute ROC summaries of all groups
+	// Inputs : group keys, expected classes (0 or 1) and scores
+	// Output : map of ROC summaries (in order of first appearance of groups)
+	// ---------------------------------------------------------------------------
+	public static <K> LinkedHashMap<K, RocSummary> build(K[] groups, int[] expected, double[] probabilities){
+
+		int n = groups.length;
+
+		if ((expected.length != n) || (probabilities.length != n)){
+
+			System.err.println("Error : groups, expected and probabilities vectors must have same dimension");
+			System.exit(1);
+
+		}
+
+		// Dense group indices
+		HashMap<K, Integer> INDICES = new HashMap<K, Integer>();
+		ArrayList<K> KEYS = new ArrayList<K>();
+
+		int[] id = new int[n];
+
+		for (int i=0; i<n; i++){
+
+			Integer index = INDICES.get(groups[i]);
+
+			if (index == null){
+
+				index = KEYS.size();
+				INDICES.put(groups[i], index);
+				KEYS.add(groups[i]);
+
+			}
+
+			id[i] = index;
+
+		}
+
+		int G = KEYS.size();
+
+		// Counting sort by group
+		int[] startP = new int[G+1];
+		int[] startN = new int[G+1];
+
+		for (int i=0; i<n; i++){
+
+			if (expected[i] == 1){startP[id[i]+1]++;}
+			if (expected[i] == 0){startN[id[i]+1]++;}
+
+		}
+
+		for (int g=0; g<G; g++){
+
+			startP[g+1] += startP[g];
+			startN[g+1] += startN[g];
+
+		}
+
+		double[] pos = new double[startP[G]];
+		double[] neg = new double[startN[G]];
+
+		int[] cursorP = Arrays.copyOf(startP, G);
+		int[] cursorN = Arrays.copyOf(startN, G);
+
+		for (int i=0; i<n; i++){
+
+			if (expected[i] == 1){pos[cursorP[id[i]]++] = probabilities[i];}
+			if (expected[i] == 0){neg[cursorN[id[i]]++] = probabilities[i];}
+
+		}
+
+		// Groups processing
+		LinkedHashMap<K, RocSummary> OUTPUT = new LinkedHashMap<K, RocSummary>();
+
+		for (int g=0; g<G; g++){
+
+			Arrays.sort(pos, startP[g], startP[g+1]);
+			Arrays.sort(neg, startN[g], startN[g+1]);
+
+			OUTPUT.put(KEYS.get(g), summarize(pos, startP[g], startP[g+1], neg, startN[g], startN[g+1]));
+
+		}
+
+		return OUTPUT;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute ROC summary of a group
+	// Inputs : sorted segments [p0, p1) of positive scores and [n0, n1) of
+	// negative scores
+	// ---------------------------------------------------------------------------
+	protected static RocSummary summarize(double[] pos, int p0, int p1, double[] neg, int n0, int n1){
+
+		return summarize(pos, p0, p1, neg, n0, n1, true);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute ROC summary of a group (scores may not be stored)
+	// ---------------------------------------------------------------------------
+	protected static RocSummary summarize(double[] pos, int p0, int p1, double[] neg, int n0, int n1, boolean keepScores){
+
+		// Missing (NaN) scores are sorted last
+		while ((p1 > p0) && Double.isNaN(pos[p1-1])){p1--;}
+		while ((n1 > n0) && Double.isNaN(neg[n1-1])){n1--;}
+
+		int P = p1 - p0;
+		int N = n1 - n0;
+
+		double[][] counts = RocCurveBuilder.walk(pos, null, p0, p1, neg, null, n0, n1);
+
+		int k = counts[0].length;
+
+		double[] X = new double[k];
+		double[] Y = new double[k];
+
+		// Twice the U statistic (trapezoids between consecutive vertices)
+		long U2 = 0;
+
+		// First vertex : no instance is classified positive
+		for (int i=1; i<k; i++){
+
+			long tp = (long)(counts[1][i]);
+			long fp = (long)(counts[2][i]);
+
+			U2 += (fp - (long)(counts[2][i-1]))*(tp + (long)(counts[1][i-1]));
+
+			X[i] = (double)(fp)/(double)(N);
+			Y[i] = (double)(tp)/(double)(P);
+
+		}
+
+		double auc = (double)(U2)/(2.0*(double)(P)*(double)(N));
+
+		if (!keepScores){
+
+			return new RocSummary(X, Y, counts[0], auc, P, N);
+
+		}
+
+		return new RocSummary(X, Y, counts[0], auc, Arrays.copyOfRange(pos, p0, p1), Arrays.copyOfRange(neg, n0, n1));
+
+	}
+
+}
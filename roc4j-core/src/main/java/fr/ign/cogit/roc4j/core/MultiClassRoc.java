@@ -0,0 +1,507 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import java.util.stream.IntStream;
+
+import fr.ign.cogit.roc4j.utils.Tools;
+
+
+//=================================================================================
+// Class for computing ROC analysis of a multi-class classifier
+// Requires a n x k matrix of scores (one row per instance, one column per class)
+// and a vector of n labels in [0, k-1]. Each score column is sorted once (with
+// labels) and this single sort is shared by :
+// - the one-vs-rest exact ROC curve and AUC of the class,
+// - the pairwise AUC A(i|j) of the class against every other class (Hand & Till,
+// 2001), computed in one walk of tie groups (optional).
+// Columns are processed independently (in parallel by default). Averaged curves
+// are then derived from one-vs-rest results without reading scores again :
+// - macro average : one-vs-rest curves are vertically averaged on a regular FPR
+// grid and macro AUC is the mean of one-vs-rest AUCs,
+// - micro average : exact ROC curve of all (instance, class) pairs, obtained by
+// merging sorted one-vs-rest scores (no sort of the n x k pooled scores). Since
+// this curve has up to n x k vertices and requires all sorted scores, it is only
+// computed on option (one-vs-rest summaries do not store instances scores).
+// Missing (NaN) scores are ignored in their column. Hand-Till measure is the mean
+// of defined pairwise AUCs : M = 1/(k(k-1)) x sum of A(i|j) for all i != j.
+// Date : 18/10/2026
+//=================================================================================
+
+public class MultiClassRoc {
+
+	// Number of classes
+	private int k;
+
+	// One-vs-rest curves
+	private RocSummary[] SUMMARIES;
+
+	// Pairwise AUC A(i|j) (null if not computed)
+	private double[][] PAIRWISE;
+
+	// Averaged curves (micro-averaged curve is null if not computed)
+	private RocSummary micro;
+	private ReceiverOperatingCharacteristics macro;
+
+	// Getters
+	public int getClassesNumber(){return k;}
+	public RocSummary getSummary(int c){return SUMMARIES[c];}
+	public RocSummary[] getSummaries(){return SUMMARIES;}
+	public ReceiverOperatingCharacteristics getMacroRoc(){return macro;}
+	public double[][] getPairwiseAUC(){return PAIRWISE;}
+
+
+	// ---------------------------------------------------------------------------
+	// Main constructor (one-vs-rest only)
+	// Inputs : n x k scores matrix and labels in [0, k-1]
+	// ---------------------------------------------------------------------------
+	public MultiClassRoc(double[][] scores, int[] labels){
+
+		this(scores, labels, false);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Main constructor (with or without pairwise AUCs)
+	// ---------------------------------------------------------------------------
+	public MultiClassRoc(double[][] scores, int[] labels, boolean pairwise){
+
+		this(scores, labels, pairwise, false, 1000, true);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Full constructor
+	// Inputs : scores matrix, labels, pairwise AUCs option, micro-averaged curve
+	// option, resolution of macro averaged curve (at least 2) and parallel
+	// processing of columns
+	// ---------------------------------------------------------------------------
+	public MultiClassRoc(double[][] scores, int[] labels, boolean pairwise, boolean microAverage, int resolution, boolean parallel){
+
+		int n = labels.length;
+
+		if (resolution < 2){
+
+			System.err.println("Error : macro-averaged ROC curve resolution must be at least 2");
+			System.exit(1);
+
+		}
+
+		if (scores.length != n){
+
+			System.err.println("Error : scores matrix and labels vector must have same number of instances");
+			System.exit(1);
+
+		}
+
+		if (n == 0){
+
+			System.err.println("Error : multi-class ROC analysis requires at least one instance");
+			System.exit(1);
+
+		}
+
+		this.k = scores[0].length;
+
+		if (k < 2){
+
+			System.err.println("Error : multi-class ROC analysis requires at least 2 classes");
+			System.exit(1);
+
+		}
+
+		for (int i=0; i<n; i++){
+
+			if (scores[i].length != k){
+
+				System.err.println("Error : all rows of scores matrix must have same dimension");
+				System.exit(1);
+
+			}
+
+			if ((labels[i] < 0) || (labels[i] >= k)){
+
+				System.err.println("Error : label "+labels[i]+" is out of range [0, "+(k-1)+"]");
+				System.exit(1);
+
+			}
+
+		}
+
+		SUMMARIES = new RocSummary[k];
+
+		long[][] U2 = pairwise ? new long[k][k] : null;
+		long[][] COUNTS = pairwise ? new long[k][k] : null;
+
+		// Sorted one-vs-rest scores (for micro-averaged curve only)
+		double[][] POS = microAverage ? new double[k][] : null;
+		double[][] NEG = microAverage ? new double[k][] : null;
+
+		// One task per class column
+		IntStream columns = IntStream.range(0, k);
+
+		if (parallel){
+
+			columns = columns.parallel();
+
+		}
+
+		columns.forEach(c -> processColumn(scores, labels, c, U2, COUNTS, POS, NEG));
+
+		if (pairwise){
+
+			PAIRWISE = new double[k][k];
+
+			for (int i=0; i<k; i++){
+
+				for (int j=0; j<k; j++){
+
+					double size = (double)(COUNTS[i][i])*(double)(COUNTS[i][j]);
+
+					PAIRWISE[i][j] = ((i == j) || (size == 0)) ? Double.NaN : U2[i][j]/(2.0*size);
+
+				}
+
+			}
+
+		}
+
+		if (microAverage){
+
+			micro = computeMicro(POS, NEG);
+
+		}
+
+		macro = computeMacro(resolution);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to process a class column (single sort)
+	// ---------------------------------------------------------------------------
+	private void processColumn(double[][] scores, int[] labels, int c, long[][] U2, long[][] COUNTS, double[][] POS, double[][] NEG){
+
+		int n = labels.length;
+
+		double[] keys = new double[n];
+		double[] values = new double[n];
+
+		for (int i=0; i<n; i++){
+
+			keys[i] = scores[i][c];
+			values[i] = labels[i];
+
+		}
+
+		Tools.sort(keys, values);
+
+		// Missing (NaN) scores are sorted last
+		int m = n;
+
+		while ((m > 0) && Double.isNaN(keys[m-1])){m--;}
+
+		// One-vs-rest split (scores remain sorted)
+		int P = 0;
+
+		for (int i=0; i<m; i++){
+
+			if (values[i] == c){P++;}
+
+		}
+
+		double[] pos = new double[P];
+		double[] neg = new double[m-P];
+
+		int ip = 0;
+		int in = 0;
+
+		for (int i=0; i<m; i++){
+
+			if (values[i] == c){pos[ip++] = keys[i];}
+			else{neg[in++] = keys[i];}
+
+		}
+
+		SUMMARIES[c] = GroupedRocBuilder.summarize(pos, 0, P, neg, 0, m-P, false);
+
+		if (POS != null){
+
+			POS[c] = pos;
+			NEG[c] = neg;
+
+		}
+
+		if (U2 == null){
+
+			return;
+
+		}
+
+		// Pairwise statistics (ascending walk of tie groups)
+		long[] counts = COUNTS[c];
+		long[] u2 = U2[c];
+
+		for (int i=0; i<m; i++){
+
+			counts[(int)values[i]]++;
+
+		}
+
+		long seen = 0;
+
+		int start = 0;
+
+		while (start < m){
+
+			int end = start;
+
+			while ((end < m) && (keys[end] == keys[start])){end++;}
+
+			long tied = 0;
+
+			for (int i=start; i<end; i++){
+
+				if (values[i] == c){tied++;}
+
+			}
+
+			// Twice the number of class c instances above (ties count for one half)
+			long above2 = 2*(P - seen - tied) + tied;
+
+			for (int i=start; i<end; i++){
+
+				if (values[i] != c){u2[(int)values[i]] += above2;}
+
+			}
+
+			seen += tied;
+			start = end;
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute micro-averaged exact curve
+	// Sorted positive (resp. negative) scores of all one-vs-rest curves are merged
+	// pairwise (sequential passes, O(nk log(k))) then walked once
+	// ---------------------------------------------------------------------------
+	private RocSummary computeMicro(double[][] POS, double[][] NEG){
+
+		double[] pos = merge(POS, 0, k);
+		double[] neg = merge(NEG, 0, k);
+
+		return GroupedRocBuilder.summarize(pos, 0, pos.length, neg, 0, neg.length, false);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to merge sorted runs of indices [from, to)
+	// ---------------------------------------------------------------------------
+	private static double[] merge(double[][] RUNS, int from, int to){
+
+		if (to - from == 1){
+
+			return RUNS[from];
+
+		}
+
+		int mid = (from+to) >>> 1;
+
+		double[] a = merge(RUNS, from, mid);
+		double[] b = merge(RUNS, mid, to);
+
+		double[] output = new double[a.length + b.length];
+
+		int i = 0;
+		int j = 0;
+		int o = 0;
+
+		while ((i < a.length) && (j < b.length)){
+
+			output[o++] = (a[i] <= b[j]) ? a[i++] : b[j++];
+
+		}
+
+		System.arraycopy(a, i, output, o, a.length-i);
+		System.arraycopy(b, j, output, o+a.length-i, b.length-j);
+
+		return output;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute macro-averaged curve (vertical averaging on regular grid)
+	// ---------------------------------------------------------------------------
+	private ReceiverOperatingCharacteristics computeMacro(int resolution){
+
+		double[] X = new double[resolution];
+		double[] Y = new double[resolution];
+
+		int defined = 0;
+
+		for (int c=0; c<k; c++){
+
+			RocSummary summary = SUMMARIES[c];
+
+			if ((summary.getPositiveInstancesNumber() == 0) || (summary.getNegativeInstancesNumber() == 0)){
+
+				continue;
+
+			}
+
+			RocCurve curve = RocCurve.of(summary.getFalsePositiveRates(), summary.getTruePositiveRates(), null, 0, 0, RocCurve.PRECISION_DOUBLE);
+
+			for (int i=0; i<resolution; i++){
+
+				Y[i] += curve.getTruePositiveRate((double)(i)/(double)(resolution));
+
+			}
+
+			defined++;
+
+		}
+
+		for (int i=0; i<resolution; i++){
+
+			X[i] = (double)(i)/(double)(resolution);
+			Y[i] /= defined;
+
+		}
+
+		return new ReceiverOperatingCharacteristics(X, Y);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get one-vs-rest ROC curve of a class
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics getRoc(int c){
+
+		return SUMMARIES[c].getRoc();
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get one-vs-rest AUC of a class
+	// ---------------------------------------------------------------------------
+	public double getAUC(int c){
+
+		return SUMMARIES[c].getAUC();
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get macro-averaged AUC (mean of defined one-vs-rest AUCs)
+	// ---------------------------------------------------------------------------
+	public double getMacroAUC(){
+
+		double sum = 0;
+		int defined = 0;
+
+		for (int c=0; c<k; c++){
+
+			if (!Double.isNaN(SUMMARIES[c].getAUC())){
+
+				sum += SUMMARIES[c].getAUC();
+				defined++;
+
+			}
+
+		}
+
+		return sum/defined;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get micro-averaged exact curve
+	// ---------------------------------------------------------------------------
+	public RocSummary getMicroSummary(){
+
+		if (micro == null){
+
+			System.err.println("Error : multi-class ROC must be built with micro-average option to get micro-averaged curve");
+			System.exit(1);
+
+		}
+
+		return micro;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get micro-averaged AUC
+	// ---------------------------------------------------------------------------
+	public double getMicroAUC(){
+
+		return getMicroSummary().getAUC();
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get pairwise AUC A(i|j) : probability that an instance of class i
+	// gets a greater score on column i than an instance of class j
+	// ---------------------------------------------------------------------------
+	public double getPairwiseAUC(int i, int j){
+
+		checkPairwise();
+
+		return PAIRWISE[i][j];
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get Hand-Till multi-class AUC
+	// ---------------------------------------------------------------------------
+	public double getHandTillAUC(){
+
+		checkPairwise();
+
+		double sum = 0;
+		int defined = 0;
+
+		for (int i=0; i<k; i++){
+
+			for (int j=0; j<k; j++){
+
+				if (!Double.isNaN(PAIRWISE[i][j])){
+
+					sum += PAIRWISE[i][j];
+					defined++;
+
+				}
+
+			}
+
+		}
+
+		return sum/defined;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to check that pairwise AUCs have been computed
+	// ---------------------------------------------------------------------------
+	private void checkPairwise(){
+
+		if (PAIRWISE == null){
+
+			System.err.println("Error : multi-class ROC must be built with pairwise option to get one-vs-one AUC");
+			System.exit(1);
+
+		}
+
+	}
+
+}
@@ -10,13 +10,12 @@
  * @author Yann Méneroux
  ******************************************************************************/
 
-package fr.ign.cogit.roc4j.graphics;
-
-import java.awt.Color;
+package fr.ign.cogit.roc4j.core;
 
 //=================================================================================
 // Class for storing operating points in the roc space
-// Its main features are threshold, TPR and FPR values.
+// Its main features are threshold, TPR and FPR values. Graphic attributes are
+// stored without java.awt dependency (color as a 32 bits ARGB integer).
 // Date : 06/03/2017
 //=================================================================================
 
@@ -28,7 +27,7 @@ public class OperatingPoint {
 	private double threshold;
 
 	// Graphics
-	private Color color = Color.BLACK;
+	private int color = 0xFF000000;
 	private String style = "fo";
 	private double size = 7;
 
@@ -46,7 +45,7 @@ public class OperatingPoint {
 	public double getFpr(){return fpr;}
 	public double getThreshold(){return threshold;}
 
-	public Color getColor(){return color;}
+	public int getColor(){return color;}
 	public String getStyle(){return style;}
 	public double getSize(){return size;}
 
@@ -55,7 +54,7 @@ public class OperatingPoint {
 	public void setFpr(double fpr){this.fpr = fpr;}
 	public void setThreshold(double t){this.threshold = t;}
 
-	public void setColor(Color color){this.color = color;}
+	public void setColor(int color){this.color = color;}
 	public void setStyle(String style){this.style = style;}
 	public void setSize(double size){this.size = size;}
 
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+
+// =================================================================================
+// Protected class for running independent loop iterations in a fork/join pool
+// ---------------------------------------------------------------------------------
+// Index range is recursively split in halves down to a grain size, and each
+// leaf range is processed sequentially in increasing order. Iterations must write
+// disjoint outputs : each output is then computed by the same operations as in
+// sequential mode, hence results are bit-for-bit identical whatever the number
+// of threads. If no pool is provided, loop is run on calling thread.
+//---------------------------------------------------------------------------------
+// Date : 18/10/2026
+//=================================================================================
+
+class ParallelLoop {
+
+	// ---------------------------------------------------------------------------
+	// Method to run body on each index of [from, to)
+	// Inputs : fork/join pool (null for sequential mode), index range, grain size
+	// (number of iterations under which range is not split) and loop body
+	// ---------------------------------------------------------------------------
+	protected static void forEach(ForkJoinPool pool, int from, int to, int grain, IntConsumer body){
+
+		if ((pool == null) || (to - from <= grain)){
+
+			for (int i=from; i<to; i++){
+
+				body.accept(i);
+
+			}
+
+			return;
+
+		}
+
+		pool.invoke(new RangeTask(from, to, Math.max(grain, 1), body));
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Recursive task on an index range
+	// ---------------------------------------------------------------------------
+	private static class RangeTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private int from;
+		private int to;
+		private int grain;
+		private IntConsumer body;
+
+		private RangeTask(int from, int to, int grain, IntConsumer body){
+
+			this.from = from;
+			this.to = to;
+			this.grain = grain;
+			this.body = body;
+
+		}
+
+		@Override
+		protected void compute(){
+
+			if (to - from <= grain){
+
+				for (int i=from; i<to; i++){
+
+					body.accept(i);
+
+				}
+
+				return;
+
+			}
+
+			int mid = (from+to) >>> 1;
+
+			invokeAll(new RangeTask(from, mid, grain, body), new RangeTask(mid, to, grain, body));
+
+		}
+
+	}
+
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+
+//=================================================================================
+// Class for computing percentile confidence bands of ROC curves in a streaming way
+// Curves (typically bootstrap replicates) are received one at a time and are not
+// stored : each curve is vertically resampled on a regular FPR grid, and TPR of
+// each grid position update three quantile sketches (lower percentile, median
+// and upper percentile, P-square algorithm). Memory is O(resolution) whatever the
+// number of curves. At confidence level c, bands are given by (100-c)/2 and
+// (100+c)/2 percentiles of TPR, and central curve by median TPR.
+// Date : 18/10/2026
+//=================================================================================
+
+public class PercentileBandsAccumulator {
+
+	// Confidence level (in %)
+	private double confidenceLevel;
+
+	// Number of FPR grid positions
+	private int resolution;
+
+	// Quantile sketches
+	private StreamingQuantiles LOWER;
+	private StreamingQuantiles MEDIAN;
+	private StreamingQuantiles UPPER;
+
+	// Instances numbers (maximal over curves)
+	private int TP = 0;
+	private int TN = 0;
+
+	// Getters
+	public double getConfidenceLevel(){return confidenceLevel;}
+	public int getResolution(){return resolution;}
+	public long getCurvesNumber(){return MEDIAN.getCount();}
+
+
+	// ---------------------------------------------------------------------------
+	// Main constructor (1000 grid positions)
+	// ---------------------------------------------------------------------------
+	public PercentileBandsAccumulator(double confidenceLevel){
+
+		this(confidenceLevel, 1000);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Main constructor bis
+	// Inputs : confidence level (in %) and number of FPR grid positions
+	// ---------------------------------------------------------------------------
+	public PercentileBandsAccumulator(double confidenceLevel, int resolution){
+
+		if ((confidenceLevel >= 100) || (confidenceLevel <= 0)){
+
+			System.err.println("Error : confidence level must be included in ]0,100[ interval");
+			System.exit(1);
+
+		}
+
+		if (resolution < 2){
+
+			System.err.println("Error : percentile bands resolution must be at least 2");
+			System.exit(1);
+
+		}
+
+		this.confidenceLevel = confidenceLevel;
+		this.resolution = resolution;
+
+		double alpha = 1 - confidenceLevel/100.0;
+
+		LOWER = new StreamingQuantiles(resolution, alpha/2);
+		MEDIAN = new StreamingQuantiles(resolution, 0.5);
+		UPPER = new StreamingQuantiles(resolution, 1-alpha/2);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to add a ROC curve
+	// ---------------------------------------------------------------------------
+	public void add(ReceiverOperatingCharacteristics roc){
+
+		double[] Y = roc.resample(resolution).getYRoc();
+
+		LOWER.add(Y);
+		MEDIAN.add(Y);
+		UPPER.add(Y);
+
+		TP = Math.max(TP, roc.getPositiveInstancesNumber());
+		TN = Math.max(TN, roc.getNegativeInstancesNumber());
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to add all ROC curves of a collection
+	// ---------------------------------------------------------------------------
+	public void add(RocCurvesCollection rocs){
+
+		for (int i=0; i<rocs.size(); i++){
+
+			add(rocs.get(i));
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get percentile confidence bands of curves received so far
+	// ---------------------------------------------------------------------------
+	public ConfidenceBands getConfidenceBands(){
+
+		if (getCurvesNumber() == 0){
+
+			System.err.println("Error : at least 1 ROC curve must be added to compute percentile confidence bands");
+			System.exit(1);
+
+		}
+
+		double[] X = new double[resolution];
+		double[] Y = new double[resolution];
+
+		double[] upper = new double[resolution];
+		double[] lower = new double[resolution];
+
+		for (int i=0; i<resolution; i++){
+
+			X[i] = (double)(i)/(double)(resolution);
+
+			Y[i] = MEDIAN.get(i);
+
+			// Estimates are kept ordered (lower <= median <= upper)
+			upper[i] = Math.max(UPPER.get(i), Y[i]);
+			lower[i] = Math.min(LOWER.get(i), Y[i]);
+
+		}
+
+		return new ConfidenceBands(X, Y, upper, lower, confidenceLevel, TP, TN);
+
+	}
+
+}
@@ -0,0 +1,1369 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ * 
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ * 
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ * 
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import fr.ign.cogit.roc4j.optimization.OptimalLine;
+import fr.ign.cogit.roc4j.utils.Tools;
+
+
+
+// =================================================================================
+// Class for computing receivier operating curve
+// Requires one vector of expected classification (0 or 1) and another vector of 
+// assigned probabilities P(Y=1|X). Graphic attributes are stored without any 
+// java.awt dependency (colors as 32 bits ARGB integers). Plotting methods are 
+// provided by RocGraphics in roc4j-graphics.
+// Date : 11/01/2017
+// =================================================================================
+
+
+public class ReceiverOperatingCharacteristics {
+
+	// Number of points
+	protected int resolution;
+
+	// ROC curve
+	protected double XROC[];
+	protected double YROC[];
+
+	// Score thresholds of ROC curve vertices (null if unknown)
+	protected double TROC[];
+
+	// Graphics
+	private int color = 0xFFFF0000;
+	private Float thickness = 1.5f;
+
+	// Color map (colors and thresholds in [0,1], null if none)
+	private int[] COLORS = null;
+	private double[] COLORS_THRESHOLDS = null;
+
+	// Name and legends
+	private String name = "Receiving Operator Curve Space";
+	private String xlabel = "FPR";
+	private String ylabel = "TPR";
+
+	// Plot size
+	private int width = 600;
+	private int height = 600;
+
+	// Data number
+	private int TP = 0;
+	private int TN = 0;
+
+	// Resampled curve (computed on first query)
+	private double[] XROC_RESAMPLED;
+	private double[] YROC_RESAMPLED;
+	private double[] THRESHOLD;
+
+	// Smoothed version
+	protected double a = Double.NaN;
+	protected double b = Double.NaN;
+
+	// Saving points
+	protected double[] POS_SCORES = {0.0};
+	protected double[] NEG_SCORES = {0.0};
+
+	// Instances scores availability (set when scores are saved)
+	protected boolean scored = false;
+
+	// Saving points weights (null for unit weights)
+	protected double[] POS_WEIGHTS = null;
+	protected double[] NEG_WEIGHTS = null;
+
+	// Smoothing methods
+	public static int SMOOTH_BINORMAL_REGRESSION = 1;
+	public static int SMOOTH_CONVEXIFY = 2;
+	public static int SMOOTH_KERNEL = 3;
+
+	// Construction methods
+	public static int BUILD_SWEEP = 1;
+	public static int BUILD_SORT = 2;
+	public static int BUILD_EXACT = 3;
+
+	// Partial area ranges
+	public static int RANGE_FPR = 1;
+	public static int RANGE_TPR = 2;
+
+
+	// Getters
+	public int getResolution(){return resolution;}
+	public double[] getXRoc(){return XROC;}
+	public double[] getYRoc(){return YROC;} 
+	public double[] getThresholds(){return TROC;}
+	public int getColor(){return color;}
+	public float getThickness(){return thickness;}
+	public String getName(){return name;}
+	public String getXLabel(){return xlabel;}
+	public String getYLabel(){return ylabel;}
+	public int getWidth(){return width;}
+	public int getHeight(){return height;}
+	public int getPositiveInstancesNumber(){return TP;}
+	public int getNegativeInstancesNumber(){return TN;}
+	public int[] getColors(){return COLORS;}
+	public double[] getColorsThresholds(){return COLORS_THRESHOLDS;}
+	
+	public double[] getPositiveScore(){return POS_SCORES;}
+	public double[] getNegativeScore(){return NEG_SCORES;}
+	public double[] getPositiveWeights(){return POS_WEIGHTS;}
+	public double[] getNegativeWeights(){return NEG_WEIGHTS;}
+	public boolean hasScores(){return scored;}
+
+	// Setters
+	public void setThickness(float thickness){this.thickness = thickness;}
+	public void setName(String name){this.name = name;}
+	public void setXLabel(String xlabel){this.xlabel = xlabel;}
+	public void setYLabel(String ylabel){this.ylabel = ylabel;}
+	public void setPlotWidth(int width){this.width = width;}	
+	public void setPlotHeight(int height){this.height = height;}
+	public void setPositiveInstancesNumber(int P){this.TP = P;}
+	public void setNegativeInstancesNumber(int N){this.TN = N;}
+
+	// ColorMap sepcial setters
+	public void setColor(int... color){
+		
+		if (color.length == 1){
+			
+			this.color = color[0]; COLORS = null; COLORS_THRESHOLDS = null;
+			
+		}
+		else{
+			
+			double[] thresholds = new double[color.length];
+			
+			for (int i=0; i<color.length; i++){
+				
+				thresholds[i] = (double)i/ (double)(color.length-1);
+				
+			}
+			
+			setColor(color, thresholds);
+			
+		}
+		
+		
+	}
+	
+	public void setColor(int[] colors, double[] thresholds){
+		
+		if (colors.length != thresholds.length){
+			
+			System.err.println("Error : colors and thresholds of color map must have same dimension");
+			System.exit(1);
+			
+		}
+		
+		this.COLORS = colors;
+		this.COLORS_THRESHOLDS = thresholds;
+		
+	}
+	
+	// Smoothed version getters
+	public boolean hasBinormalParameters(){
+
+		return !Double.isNaN(this.a) && !Double.isNaN(this.b);
+
+	}
+
+	// Smoothed version getters
+	public double getSmoothedIntercept(){
+
+		if (Double.isNaN(this.b)){
+
+			System.err.println("Error : roc curve must be smoothed with binormal regression before attempting to get intercept parameter");
+			System.exit(1);
+
+		}
+
+		return this.b;
+
+	}
+	// Smoothed version getters
+	public double getSmoothedSlope(){
+
+		if (Double.isNaN(this.a)){
+
+			System.err.println("Error : roc curve must be smoothed with binormal regression before attempting to get slope parameter");
+			System.exit(1);
+
+		}
+
+		return this.a;
+
+	}
+
+
+
+	// ---------------------------------------------------------------------------
+	// Main constructor
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics(int[] expected, double[] probabilities){
+
+		this(expected, probabilities, 1000);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Main constructor bis
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics(int[] expected, double[] probabilities, int resolution){
+
+		this(expected, probabilities, resolution, BUILD_SORT);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Main constructor ter (with construction method)
+	// With BUILD_EXACT method, resolution is the number of distinct scores + 1
+	// (input resolution parameter is ignored)
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics(int[] expected, double[] probabilities, int resolution, int method){
+
+		this.resolution = resolution;
+
+		// Dataset size
+		int n = expected.length;
+
+		// Control
+		if (probabilities.length != n){
+
+			System.err.println("Error : expected and probabilities vectors must have same dimension");
+
+		}
+
+		if (method == BUILD_SWEEP){
+
+			RocCurveBuilder.sweep(this, expected, probabilities);
+
+		}
+		else if (method == BUILD_SORT){
+
+			RocCurveBuilder.sort(this, expected, probabilities);
+
+		}
+		else if (method == BUILD_EXACT){
+
+			RocCurveBuilder.exact(this, expected, probabilities);
+
+		}
+		else{
+
+			System.err.println("Error : unknown ROC curve construction method");
+			System.exit(1);
+
+		}
+	}
+
+	// ---------------------------------------------------------------------------
+	// Exact empirical constructor (one vertex per distinct score)
+	// ---------------------------------------------------------------------------
+	public static ReceiverOperatingCharacteristics exact(int[] expected, double[] probabilities){
+
+		return new ReceiverOperatingCharacteristics(expected, probabilities, 0, BUILD_EXACT);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Weighted instances constructor
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics(int[] expected, double[] probabilities, double[] weights){
+
+		this(expected, probabilities, weights, 1000);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Weighted instances constructor bis
+	// Each instance counts for its weight (e.g. multiplicity of deduplicated
+	// instances or inverse sampling rate). With integer weights, output curve is
+	// identical to the one computed on expanded instances.
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics(int[] expected, double[] probabilities, double[] weights, int resolution){
+
+		this(expected, probabilities, weights, resolution, BUILD_SORT);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Weighted instances constructor ter (with construction method)
+	// BUILD_SWEEP method is processed as BUILD_SORT method
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics(int[] expected, double[] probabilities, double[] weights, int resolution, int method){
+
+		this.resolution = resolution;
+
+		if (probabilities.length != expected.length){
+
+			System.err.println("Error : expected and probabilities vectors must have same dimension");
+			System.exit(1);
+
+		}
+
+		if ((method != BUILD_SWEEP) && (method != BUILD_SORT) && (method != BUILD_EXACT)){
+
+			System.err.println("Error : unknown ROC curve construction method");
+			System.exit(1);
+
+		}
+
+		RocCurveBuilder.weighted(this, expected, probabilities, weights, method == BUILD_EXACT);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Exact empirical constructor with weighted instances
+	// ---------------------------------------------------------------------------
+	public static ReceiverOperatingCharacteristics exact(int[] expected, double[] probabilities, double[] weights){
+
+		return new ReceiverOperatingCharacteristics(expected, probabilities, weights, 0, BUILD_EXACT);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Constructor from compact ROC curve (e.g. for plotting a stored curve)
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics(RocCurve curve){
+
+		this(curve.getFalsePositiveRates(), curve.getTruePositiveRates());
+
+		this.TROC = curve.getThresholds();
+
+		setPositiveInstancesNumber(curve.getPositiveInstancesNumber());
+		setNegativeInstancesNumber(curve.getNegativeInstancesNumber());
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get compact immutable version of ROC curve (double precision)
+	// ---------------------------------------------------------------------------
+	public RocCurve toCurve(){
+
+		return RocCurve.of(this);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get compact immutable version of ROC curve
+	// Input : storage precision (RocCurve.PRECISION_DOUBLE, FLOAT or QUANTIZED)
+	// ---------------------------------------------------------------------------
+	public RocCurve toCurve(int precision){
+
+		return RocCurve.of(this, precision);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Constructor from score histograms
+	// Inputs : bin edges (increasing, size bins+1), positive and negative
+	// instances counts in each bin (size bins)
+	// Complexity is O(bins), instances are not expanded
+	// ---------------------------------------------------------------------------
+	public static ReceiverOperatingCharacteristics fromHistogram(double[] edges, long[] positives, long[] negatives){
+
+		return RocCurveBuilder.histogram(edges, positives, negatives);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Constructor from cumulative confusion counts
+	// Inputs : thresholds (decreasing), numbers of true and false positives at
+	// each threshold, total numbers of positive and negative instances
+	// ---------------------------------------------------------------------------
+	public static ReceiverOperatingCharacteristics fromCounts(double[] thresholds, long[] truePositives, long[] falsePositives, long positives, long negatives){
+
+		return RocCurveBuilder.counts(thresholds, truePositives, falsePositives, positives, negatives);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Direct constructor from XROC and YROC
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics(ArrayList<Double> FPR, ArrayList<Double> TPR){
+
+		if (FPR.size() != TPR.size()){
+
+			System.err.println("Error : TPR and FPR rates must have same dimension to build ROC curve");
+			System.exit(1);
+
+		}
+
+		this.resolution = FPR.size();
+
+
+		this.XROC = new double[resolution];
+		this.YROC = new double[resolution];
+
+		for (int i=0; i<resolution; i++){
+
+			this.XROC[i] = FPR.get(i);
+			this.YROC[i] = TPR.get(i);
+
+		}
+	}
+
+	// ---------------------------------------------------------------------------
+	// Direct constructor from ROC data file (space-separated columns)
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics(String rocFile, int headline, int fpr_column, int tpr_column){
+
+		this(rocFile, headline, fpr_column, tpr_column, " \t");
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Direct constructor from ROC data file with specific delimiters
+	// (e.g. "," or ";" for CSV files)
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics(String rocFile, int headline, int fpr_column, int tpr_column, String delimiters){
+
+		double[][] data = RocCurveReader.read(rocFile, headline, fpr_column, tpr_column, delimiters);
+
+		this.resolution = data[0].length;
+
+		this.XROC = data[0];
+		this.YROC = data[1];
+	}
+
+	// ---------------------------------------------------------------------------
+	// Direct constructor from XROC and YROC
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics(double[] FPR, double[] TPR){
+
+		if (FPR.length != TPR.length){
+
+			System.err.println("Error : TPR and FPR rates must have same dimension to build ROC curve");
+			System.exit(1);
+
+		}
+
+		this.resolution = FPR.length;
+
+
+		this.XROC = new double[resolution];
+		this.YROC = new double[resolution];
+
+		for (int i=0; i<resolution; i++){
+
+			this.XROC[i] = FPR[i];
+			this.YROC[i] = TPR[i];
+
+		}
+	}
+
+
+	// ---------------------------------------------------------------------------
+	// Method for computing Area Under Curve of a ROC curve
+	// ---------------------------------------------------------------------------
+	public double computeAUC(){
+
+		double area = 0.0;
+
+		for (int i=0; i<XROC.length-1; i++){
+
+			double dx = Math.max(XROC[i], XROC[i+1])-Math.min(XROC[i], XROC[i+1]);
+			double ymean = 0.5*(YROC[i]+YROC[i+1]);
+
+			area += dx*ymean;
+
+		}
+
+		return area;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing exact Area Under Curve from instances scores
+	// (Mann-Whitney rank statistic, independent of resolution)
+	// ---------------------------------------------------------------------------
+	public double computeExactAUC(){
+
+		checkScores("exact AUC");
+
+		return AucEstimator.mannWhitney(POS_SCORES, POS_WEIGHTS, NEG_SCORES, NEG_WEIGHTS);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to save instances scores (positive and negative)
+	// ---------------------------------------------------------------------------
+	protected void setScores(double[] positives, double[] negatives){
+
+		this.POS_SCORES = positives;
+		this.NEG_SCORES = negatives;
+
+		this.scored = true;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to check that ROC curve has been built from instances scores
+	// ---------------------------------------------------------------------------
+	private void checkScores(String index){
+
+		if (!scored){
+
+			System.err.println("Error : ROC curve must be built from expected and probabilities vectors to compute "+index);
+			System.exit(1);
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing exact Area Under Curve without building ROC curve
+	// Inputs : positive and negative instances scores
+	// ---------------------------------------------------------------------------
+	public static double computeExactAUC(double[] positives, double[] negatives){
+
+		return AucEstimator.mannWhitney(positives, negatives);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing exact Area Under Curve without building ROC curve
+	// Inputs : expected classes (0 or 1) and scores
+	// ---------------------------------------------------------------------------
+	public static double computeExactAUC(int[] expected, double[] probabilities){
+
+		if (expected.length != probabilities.length){
+
+			System.err.println("Error : expected and probabilities vectors must have same dimension");
+			System.exit(1);
+
+		}
+
+		double[][] scores = RocCurveBuilder.splitScores(expected, probabilities);
+
+		return AucEstimator.mannWhitney(scores[0], scores[1]);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing exact Area Under Curve of weighted instances
+	// Inputs : expected classes (0 or 1), scores and instances weights
+	// ---------------------------------------------------------------------------
+	public static double computeExactAUC(int[] expected, double[] probabilities, double[] weights){
+
+		if (expected.length != probabilities.length){
+
+			System.err.println("Error : expected and probabilities vectors must have same dimension");
+			System.exit(1);
+
+		}
+
+		double[][] scores = RocCurveBuilder.splitScores(expected, probabilities);
+		double[][] masses = RocCurveBuilder.splitWeights(expected, weights);
+
+		return AucEstimator.mannWhitney(scores[0], masses[0], scores[1], masses[1]);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing partial Area Under Curve on a FPR interval
+	// ---------------------------------------------------------------------------
+	public double computePartialAUC(double min, double max){
+
+		return computePartialAUC(min, max, RANGE_FPR);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing partial Area Under Curve on a FPR or TPR interval
+	// On TPR range, partial area is the area on the right of the curve. Curve is
+	// interpolated exactly at interval bounds.
+	// ---------------------------------------------------------------------------
+	public double computePartialAUC(double min, double max, int range){
+
+		return AucEstimator.partial(XROC, YROC, min, max, range);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing standardized partial AUC on a FPR interval
+	// ---------------------------------------------------------------------------
+	public double computeStandardizedPartialAUC(double min, double max){
+
+		return computeStandardizedPartialAUC(min, max, RANGE_FPR);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing standardized partial AUC (McClish) on an interval
+	// Output : 0.5 for random classifier and 1.0 for perfect classifier
+	// ---------------------------------------------------------------------------
+	public double computeStandardizedPartialAUC(double min, double max, int range){
+
+		return standardizePartialAUC(computePartialAUC(min, max, range), min, max, range);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing exact partial AUC from instances scores
+	// ---------------------------------------------------------------------------
+	public double computeExactPartialAUC(double min, double max, int range){
+
+		checkScores("exact partial AUC");
+
+		return AucEstimator.partialFromScores(POS_SCORES, POS_WEIGHTS, NEG_SCORES, NEG_WEIGHTS, min, max, range);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing exact partial AUC without building ROC curve
+	// Only instances ranked inside the interval are sorted
+	// Inputs : positive and negative instances scores, bounds and range type
+	// ---------------------------------------------------------------------------
+	public static double computeExactPartialAUC(double[] positives, double[] negatives, double min, double max, int range){
+
+		return AucEstimator.partialFromScores(positives, negatives, min, max, range);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for standardizing a partial AUC (McClish correction)
+	// ---------------------------------------------------------------------------
+	public static double standardizePartialAUC(double area, double min, double max, int range){
+
+		return AucEstimator.mcClish(area, min, max, range);
+
+	}
+
+
+
+	// ---------------------------------------------------------------------------
+	// Method for resampling ROC curve regularly
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics resample(){
+
+		return resample(getResolution());
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for resampling ROC curve regularly at specific resolution
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics resample(int new_resolution){
+
+		double[] grid = new double[new_resolution];
+
+		for (int j=0; j<new_resolution; j++){
+
+			grid[j] = (double)(j)/(double)(new_resolution);
+
+		}
+
+		return resample(grid);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for resampling ROC curve on an arbitrary FPR grid
+	// Input : FPR values sorted in increasing order (e.g. log-spaced grid)
+	// Output : ROC curve with one vertex per grid value
+	// Single merge walk along the curve (FPR are assumed non-decreasing), TPR
+	// are clamped to curve end points outside of curve FPR range
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics resample(double[] grid){
+
+		double[] X = Arrays.copyOf(grid, grid.length);
+		double[] Y = new double[grid.length];
+		double[] T = (TROC == null) ? null : new double[grid.length];
+
+		int k = 0;
+
+		for (int j=0; j<grid.length; j++){
+
+			double x = grid[j];
+
+			if ((j > 0) && (x < grid[j-1])){
+
+				System.err.println("Error : resampling grid must be sorted in increasing order");
+				System.exit(1);
+
+			}
+
+			// First vertex strictly after x
+			while ((k < XROC.length) && (XROC[k] <= x)){
+
+				k++;
+
+			}
+
+			Y[j] = interpolate(YROC, x, k);
+
+			if (T != null){
+
+				T[j] = interpolate(TROC, x, k);
+
+			}
+
+		}
+
+		ReceiverOperatingCharacteristics roc = new ReceiverOperatingCharacteristics(X, Y);
+
+		roc.TROC = T;
+
+		return roc;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for resampling ROC curve on a log-spaced FPR grid
+	// Inputs : number of grid values and lowest strictly positive FPR
+	// Output : ROC curve with vertices at FPR = 0 and from min to 1
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics resampleLog(int new_resolution, double min){
+
+		double[] grid = new double[new_resolution];
+
+		double[] log = Tools.logspace(min, 1.0, new_resolution-1);
+
+		System.arraycopy(log, 0, grid, 1, log.length);
+
+		return resample(grid);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for filling resampled vectors (if needed)
+	// ---------------------------------------------------------------------------
+	private void checkResampledVectors(){
+
+		if (XROC_RESAMPLED == null){
+
+			fillResampledVectors(1000);
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for invalidating resampled vectors (when curve is modified)
+	// ---------------------------------------------------------------------------
+	private void clearResampledVectors(){
+
+		XROC_RESAMPLED = null;
+		YROC_RESAMPLED = null;
+		THRESHOLD = null;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for filling resampled vectors
+	// Single merge walk along the curve (FPR are assumed non-decreasing)
+	// Thresholds are interpolated from vertex scores when available, otherwise
+	// they are derived from vertex indices
+	// ---------------------------------------------------------------------------
+	private void fillResampledVectors(int new_resolution){
+
+		XROC_RESAMPLED = new double[new_resolution];
+		YROC_RESAMPLED = new double[new_resolution];
+		THRESHOLD = new double[new_resolution];
+
+		int k = 1;
+
+		for (int j=0; j<new_resolution; j++){
+
+			double x = (double)(j)/(double)(new_resolution);
+
+			XROC_RESAMPLED[j] = x;
+
+			// First vertex strictly after x
+			while ((k < resolution) && (XROC[k] <= x)){
+
+				k++;
+
+			}
+
+			if (k == resolution){
+
+				continue;
+
+			}
+
+			// Before first vertex
+			if (XROC[k-1] > x){
+
+				YROC_RESAMPLED[j] = YROC[k-1];
+				THRESHOLD[j] = getVertexThreshold(k-1);
+				continue;
+
+			}
+
+			double y1 = YROC[k-1];
+			double y2 = YROC[k];
+
+			double d1 = x - XROC[k-1];
+			double d2 = XROC[k] - x;
+
+			double w1 = d2/(d1+d2);
+			double w2 = d1/(d1+d2);
+
+
+			YROC_RESAMPLED[j] = w1*y1+w2*y2;
+			THRESHOLD[j] = w1*getVertexThreshold(k-1)+w2*getVertexThreshold(k);
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get threshold of a vertex (index-based if scores are unknown)
+	// ---------------------------------------------------------------------------
+	private double getVertexThreshold(int k){
+
+		if (TROC != null){
+
+			return TROC[k];
+
+		}
+
+		return 1-(double)(k)/(double)resolution;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for averaging two ROC curves
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics averageWith(ReceiverOperatingCharacteristics roc){
+
+		return averageWith(roc, 0.5);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for averaging two ROC curves with different weights
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics averageWith(ReceiverOperatingCharacteristics roc, double w1){
+
+		return averageWith(roc, w1, ConfidenceBands.METHOD_THRESHOLD_AVERAGING);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for averaging two ROC curves with different weights
+	// Inputs : ROC curve, weight of this curve (in [0,1]) and averaging method
+	// (vertical or threshold averaging)
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics averageWith(ReceiverOperatingCharacteristics roc, double w1, int method){
+
+		if ((w1 > 1) || (w1 < 0)){
+
+			System.err.println("Error : weight must be in [0;1]");
+			System.exit(1);
+
+		}
+
+		RocCurvesCollection ROCS = new RocCurvesCollection(true);
+
+		ROCS.add(this, w1);
+		ROCS.add(roc, 1-w1);
+
+		return RocCurveAverager.average(ROCS, ROCS.getWeights(), method);
+
+	}
+
+
+	// ---------------------------------------------------------------------------
+	// Method for averaging a list of ROC curves
+	// ---------------------------------------------------------------------------
+	public static ReceiverOperatingCharacteristics average(ReceiverOperatingCharacteristics... rocs){
+
+		RocCurvesCollection ROCS = new RocCurvesCollection(new ArrayList<ReceiverOperatingCharacteristics>(), true);
+		
+		for (int i=0; i<rocs.length; i++){
+			
+			ROCS.add(rocs[i]);
+			
+		}
+		
+		return average(ROCS);
+		
+	}
+
+
+	// ---------------------------------------------------------------------------
+	// Method for averaging a list of ROC curves
+	// ---------------------------------------------------------------------------
+	public static ReceiverOperatingCharacteristics average(RocCurvesCollection ROCS){
+
+		return average(ROCS, ConfidenceBands.METHOD_THRESHOLD_AVERAGING);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for averaging a list of ROC curves (weighted by collection weights)
+	// Inputs : ROC curves and averaging method (vertical or threshold averaging)
+	// ---------------------------------------------------------------------------
+	public static ReceiverOperatingCharacteristics average(RocCurvesCollection ROCS, int method){
+
+		if (ROCS.size() <= 1){
+
+			System.err.println("Error : ROC curves array list must contain at least 2 curves");
+			System.exit(1);
+
+		}
+
+		return average(ROCS, ROCS.getWeights(), method);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing weighted average of a list of ROC curves
+	// Inputs : ROC curves, weights (positive real values, one per curve) and
+	// averaging method (vertical or threshold averaging)
+	// ---------------------------------------------------------------------------
+	public static ReceiverOperatingCharacteristics average(RocCurvesCollection ROCS, double[] weights, int method){
+
+		return RocCurveAverager.average(ROCS, weights, method);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Special getter FPR -> TPR
+	// ---------------------------------------------------------------------------
+	public double getTruePositiveRate(double falsePositiveRate){
+
+		checkResampledVectors();
+
+		int index = (int)(falsePositiveRate*XROC_RESAMPLED.length);
+
+		index = Math.max(Math.min(index, YROC_RESAMPLED.length-1), 0);
+
+		return YROC_RESAMPLED[index];
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Special getter TPR -> FPR
+	// ---------------------------------------------------------------------------
+	public double getFalsePositiveRate(double truePositiveRate){
+
+		checkResampledVectors();
+
+		int index = Math.min(Tools.lowerBound(YROC_RESAMPLED, truePositiveRate), YROC_RESAMPLED.length-1);
+
+		return XROC_RESAMPLED[index];
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Special getter FPR -> threshold
+	// ---------------------------------------------------------------------------
+	public double getThresholdFromFpr(double falsePositiveRate){
+
+		checkResampledVectors();
+
+		falsePositiveRate = Math.max(Math.min(falsePositiveRate, 0.99999), 0);
+
+		int index = (int)(falsePositiveRate*XROC_RESAMPLED.length);
+
+		return THRESHOLD[index];
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Special getter TPR -> threshold
+	// ---------------------------------------------------------------------------
+	public double getThresholdFromTpr(double truePositiveRate){
+
+		checkResampledVectors();
+
+		int index = Math.min(Tools.lowerBound(YROC_RESAMPLED, truePositiveRate), YROC_RESAMPLED.length-1);
+
+		return THRESHOLD[index];
+
+	}
+
+
+
+	// ---------------------------------------------------------------------------
+	// Exact getter FPR -> TPR (linear interpolation between curve vertices)
+	// ---------------------------------------------------------------------------
+	public double getExactTruePositiveRate(double falsePositiveRate){
+
+		return interpolateTpr(falsePositiveRate, Tools.upperBound(XROC, falsePositiveRate));
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Exact getter TPR -> FPR (linear interpolation between curve vertices)
+	// ---------------------------------------------------------------------------
+	public double getExactFalsePositiveRate(double truePositiveRate){
+
+		return interpolateFpr(truePositiveRate, Tools.lowerBound(YROC, truePositiveRate));
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Exact getter FPR -> threshold
+	// Output : score threshold of the vertex with highest TPR among those with
+	// FPR lower or equal than input rate (NaN if scores are unknown)
+	// ---------------------------------------------------------------------------
+	public double getExactThresholdFromFpr(double falsePositiveRate){
+
+		if (TROC == null){
+
+			return Double.NaN;
+
+		}
+
+		int index = Math.max(Tools.upperBound(XROC, falsePositiveRate)-1, 0);
+
+		return TROC[index];
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Exact getter TPR -> threshold
+	// Output : score threshold of the vertex with lowest FPR among those with
+	// TPR greater or equal than input rate (NaN if scores are unknown)
+	// ---------------------------------------------------------------------------
+	public double getExactThresholdFromTpr(double truePositiveRate){
+
+		if (TROC == null){
+
+			return Double.NaN;
+
+		}
+
+		int index = Math.min(Tools.lowerBound(YROC, truePositiveRate), YROC.length-1);
+
+		return TROC[index];
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Exact batch getter FPR -> TPR (single sorted sweep along the curve)
+	// ---------------------------------------------------------------------------
+	public double[] getExactTruePositiveRates(double[] falsePositiveRates){
+
+		double[] sorted = Arrays.copyOf(falsePositiveRates, falsePositiveRates.length);
+
+		Arrays.sort(sorted);
+
+		double[] values = new double[sorted.length];
+
+		int k = 0;
+
+		for (int i=0; i<sorted.length; i++){
+
+			while ((k < XROC.length) && (XROC[k] <= sorted[i])){
+
+				k++;
+
+			}
+
+			values[i] = interpolateTpr(sorted[i], k);
+
+		}
+
+		return Tools.unsort(falsePositiveRates, sorted, values);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Exact batch getter TPR -> FPR (single sorted sweep along the curve)
+	// ---------------------------------------------------------------------------
+	public double[] getExactFalsePositiveRates(double[] truePositiveRates){
+
+		double[] sorted = Arrays.copyOf(truePositiveRates, truePositiveRates.length);
+
+		Arrays.sort(sorted);
+
+		double[] values = new double[sorted.length];
+
+		int k = 0;
+
+		for (int i=0; i<sorted.length; i++){
+
+			while ((k < YROC.length) && (YROC[k] < sorted[i])){
+
+				k++;
+
+			}
+
+			values[i] = interpolateFpr(sorted[i], k);
+
+		}
+
+		return Tools.unsort(truePositiveRates, sorted, values);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to interpolate TPR at a given FPR
+	// Input : k is the index of first vertex with FPR strictly greater than x
+	// ---------------------------------------------------------------------------
+	private double interpolateTpr(double x, int k){
+
+		return interpolate(YROC, x, k);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to interpolate a vertex attribute (TPR or threshold) at a given FPR
+	// Input : k is the index of first vertex with FPR strictly greater than x
+	// ---------------------------------------------------------------------------
+	private double interpolate(double[] V, double x, int k){
+
+		if (k == 0){return V[0];}
+		if (k == XROC.length){return V[XROC.length-1];}
+
+		double d1 = x - XROC[k-1];
+		double d2 = XROC[k] - x;
+
+		double w1 = d2/(d1+d2);
+		double w2 = d1/(d1+d2);
+
+		return w1*V[k-1]+w2*V[k];
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to interpolate FPR at a given TPR
+	// Input : k is the index of first vertex with TPR greater or equal than y
+	// ---------------------------------------------------------------------------
+	private double interpolateFpr(double y, int k){
+
+		if (k == 0){return XROC[0];}
+		if (k == YROC.length){return XROC[YROC.length-1];}
+
+		double d1 = y - YROC[k-1];
+		double d2 = YROC[k] - y;
+
+		return (d2*XROC[k-1] + d1*XROC[k])/(d1+d2);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to convert a ROC curve to an array list of points
+	// ---------------------------------------------------------------------------
+	public ArrayList<OperatingPoint> toOperatingPointsSequency(){
+
+		ArrayList<OperatingPoint> POINTS = new ArrayList<OperatingPoint>();
+
+		for (int i=0; i<getXRoc().length; i++){
+
+			double threshold = (TROC == null) ? -1 : TROC[i];
+
+			POINTS.add(new OperatingPoint(getXRoc()[i], getYRoc()[i], threshold));
+
+		}
+
+		return POINTS;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to convert a ROC curve to an array list of points with resampling
+	// ---------------------------------------------------------------------------
+	public ArrayList<OperatingPoint> toOperatingPointsSequency(int resolution){
+
+		OperatingPoint model = new OperatingPoint(0, 0);		
+
+		return toOperatingPointsSequency(resolution, model);
+
+	}
+
+
+	// ---------------------------------------------------------------------------
+	// Method to convert a ROC curve to an array list of points with resampling
+	// ---------------------------------------------------------------------------
+	public ArrayList<OperatingPoint> toOperatingPointsSequency(OperatingPoint model){
+
+		return toOperatingPointsSequency(resolution, model);
+
+	}
+
+
+	// ---------------------------------------------------------------------------
+	// Method to convert a ROC curve to an array list of points with resampling
+	// ---------------------------------------------------------------------------
+	public ArrayList<OperatingPoint> toOperatingPointsSequency(int resolution, OperatingPoint model){
+
+		ReceiverOperatingCharacteristics roc = resample(resolution);
+
+		ArrayList<OperatingPoint> POINTS = new ArrayList<OperatingPoint>();
+
+		for (int i=0; i<roc.getXRoc().length; i++){
+
+			double threshold = (roc.TROC == null) ? -1 : roc.TROC[i];
+
+			OperatingPoint point = new OperatingPoint(roc.getXRoc()[i], roc.getYRoc()[i], threshold);
+			point.setStyle(model.getStyle());
+			point.setColor(model.getColor());
+			point.setSize(model.getSize());
+
+			POINTS.add(point);
+
+		}
+
+		return POINTS;
+
+	}
+
+
+	// ---------------------------------------------------------------------------
+	// Method for copying a ROC curve
+	// ---------------------------------------------------------------------------
+	public OperatingPoint computeOptimalOperatingPoint(OptimalLine line){
+
+		return line.computeOptimalOperatingPoint(this);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for optimal ROC space point computing
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics copy(){
+
+		ReceiverOperatingCharacteristics copy = new ReceiverOperatingCharacteristics(XROC, YROC);
+
+		copy.setNegativeInstancesNumber(getNegativeInstancesNumber());
+		copy.setPositiveInstancesNumber(getPositiveInstancesNumber());
+
+		copy.POS_SCORES = this.POS_SCORES;
+		copy.NEG_SCORES = this.NEG_SCORES;
+		copy.scored = this.scored;
+
+		copy.POS_WEIGHTS = this.POS_WEIGHTS;
+		copy.NEG_WEIGHTS = this.NEG_WEIGHTS;
+
+		copy.TROC = this.TROC;
+
+		return copy;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for making a smooth version of a ROC curve
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics makeSmoothVersion(){
+
+		return makeSmoothVersion(SMOOTH_BINORMAL_REGRESSION);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for making a smooth version of a ROC curve
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics makeSmoothVersion(int method){
+
+		return makeSmoothVersion(method, new PredefiniteKernel(PredefiniteKernel.GAUSSIAN), true);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for making a smooth version of a ROC curve
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics makeSmoothVersion(int method, Kernel kernel){
+
+		return makeSmoothVersion(method, kernel, true);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for making a smooth version of a ROC curve
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics makeSmoothVersion(int method, Kernel kernel, boolean verbose){
+
+		return makeSmoothVersion(method, kernel, kernel, verbose);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for making a smooth version of a ROC curve
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics makeSmoothVersion(int method, Kernel kernel_pos, Kernel kernel_neg, boolean verbose){
+
+		ReceiverOperatingCharacteristics roc = copy();
+
+		roc.smooth(method, kernel_pos, kernel_neg, verbose);
+
+		return roc;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for making a smooth version of a ROC curve
+	// ---------------------------------------------------------------------------
+	public void smooth(){
+
+		smooth(SMOOTH_BINORMAL_REGRESSION);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for making a smooth version of a ROC curve
+	// ---------------------------------------------------------------------------
+	public void smooth(int method){
+
+		smooth(method, new PredefiniteKernel(PredefiniteKernel.GAUSSIAN), true);
+
+	}
+
+
+	// ---------------------------------------------------------------------------
+	// Method for making a smooth version of a ROC curve
+	// ---------------------------------------------------------------------------
+	public void smooth(int method, Kernel kernel){
+
+		smooth(method, kernel, true);
+
+	}
+
+
+	// ---------------------------------------------------------------------------
+	// Method for smoothing a ROC curve
+	// ---------------------------------------------------------------------------
+	public void smooth(int method, Kernel kernel, boolean verbose){
+
+		smooth(method, kernel, kernel, verbose);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for smoothing a ROC curve
+	// ---------------------------------------------------------------------------
+	public void smooth(int method, Kernel kp, Kernel kn, boolean verbose){
+
+
+		if (method == SMOOTH_CONVEXIFY){
+
+			RocCurveSmoother.convexify(this);
+			this.clearResampledVectors();
+
+		}
+
+		if (method == SMOOTH_KERNEL){
+
+			RocCurveSmoother.kernelSmoothing(this, kp, kn, verbose);
+			this.clearResampledVectors();
+
+		}
+
+
+		if (method == SMOOTH_BINORMAL_REGRESSION){
+
+			RocCurveSmoother.binormalSmoothing(this, verbose);
+			this.clearResampledVectors();
+
+		}
+
+
+	}
+
+}
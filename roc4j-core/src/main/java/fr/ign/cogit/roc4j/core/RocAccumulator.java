@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+
+//=================================================================================
+// Class for accumulating classifier outputs in a streaming way
+// Expected classes (0 or 1) and scores are counted in fixed-width score bins, one
+// histogram for positive and one for negative instances. Memory is independent of
+// the number of ingested instances and two accumulators with same binning may be
+// merged without any loss. ROC curve (and AUC) may be computed at any time.
+// Scores out of [min, max] interval are counted in boundary bins and missing (NaN)
+// scores are ignored.
+// Date : 18/10/2026
+//=================================================================================
+
+public class RocAccumulator {
+
+	// Binning
+	private int bins;
+	private double min;
+	private double max;
+
+	// Histograms
+	private long[] POS_COUNTS;
+	private long[] NEG_COUNTS;
+
+	// Instances number
+	private long P = 0;
+	private long N = 0;
+
+	// Getters
+	public int getBinsNumber(){return bins;}
+	public double getMin(){return min;}
+	public double getMax(){return max;}
+	public long getPositiveInstancesNumber(){return P;}
+	public long getNegativeInstancesNumber(){return N;}
+	public long[] getPositiveCounts(){return POS_COUNTS;}
+	public long[] getNegativeCounts(){return NEG_COUNTS;}
+
+
+	// ---------------------------------------------------------------------------
+	// Main constructor (1000 bins on [0,1])
+	// ---------------------------------------------------------------------------
+	public RocAccumulator(){
+
+		this(1000);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Main constructor bis (bins on [0,1])
+	// ---------------------------------------------------------------------------
+	public RocAccumulator(int bins){
+
+		this(bins, 0.0, 1.0);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Main constructor ter
+	// ---------------------------------------------------------------------------
+	public RocAccumulator(int bins, double min, double max){
+
+		if (bins < 1){
+
+			System.err.println("Error : number of bins must be strictly positive");
+			System.exit(1);
+
+		}
+
+		if (!(max > min)){
+
+			System.err.println("Error : upper bound of scores must be greater than lower bound");
+			System.exit(1);
+
+		}
+
+		this.bins = bins;
+		this.min = min;
+		this.max = max;
+
+		this.POS_COUNTS = new long[bins];
+		this.NEG_COUNTS = new long[bins];
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get bin index of a score
+	// ---------------------------------------------------------------------------
+	protected int getBinIndex(double score){
+
+		return getBinIndex(score, min, max, bins);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get bin index of a score for a given binning (scores out of
+	// [min, max] are set in boundary bins)
+	// ---------------------------------------------------------------------------
+	protected static int getBinIndex(double score, double min, double max, int bins){
+
+		int index = (int)((score-min)/(max-min)*bins);
+
+		return Math.max(Math.min(index, bins-1), 0);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get bin edges
+	// ---------------------------------------------------------------------------
+	public double[] getBinEdges(){
+
+		double[] edges = new double[bins+1];
+
+		for (int i=0; i<=bins; i++){
+
+			edges[i] = min + (max-min)*(double)(i)/(double)(bins);
+
+		}
+
+		return edges;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to add one instance
+	// ---------------------------------------------------------------------------
+	public void add(int expected, double score){
+
+		if (Double.isNaN(score)){
+
+			return;
+
+		}
+
+		if (expected == 1){
+
+			POS_COUNTS[getBinIndex(score)]++;
+			P++;
+
+		}
+
+		if (expected == 0){
+
+			NEG_COUNTS[getBinIndex(score)]++;
+			N++;
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to add instances counts in a bin
+	// ---------------------------------------------------------------------------
+	protected void addCounts(int bin, long positives, long negatives){
+
+		POS_COUNTS[bin] += positives;
+		NEG_COUNTS[bin] += negatives;
+
+		P += positives;
+		N += negatives;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to add a batch of instances
+	// ---------------------------------------------------------------------------
+	public void add(int[] expected, double[] scores){
+
+		if (expected.length != scores.length){
+
+			System.err.println("Error : expected and probabilities vectors must have same dimension");
+			System.exit(1);
+
+		}
+
+		for (int i=0; i<expected.length; i++){
+
+			add(expected[i], scores[i]);
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to merge another accumulator (with same binning) in this one
+	// ---------------------------------------------------------------------------
+	public void merge(RocAccumulator accumulator){
+
+		if ((accumulator.bins != bins) || (accumulator.min != min) || (accumulator.max != max)){
+
+			System.err.println("Error : ROC accumulators must have same binning to be merged");
+			System.exit(1);
+
+		}
+
+		for (int i=0; i<bins; i++){
+
+			POS_COUNTS[i] += accumulator.POS_COUNTS[i];
+			NEG_COUNTS[i] += accumulator.NEG_COUNTS[i];
+
+		}
+
+		P += accumulator.P;
+		N += accumulator.N;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to reset accumulator
+	// ---------------------------------------------------------------------------
+	public void clear(){
+
+		for (int i=0; i<bins; i++){
+
+			POS_COUNTS[i] = 0;
+			NEG_COUNTS[i] = 0;
+
+		}
+
+		P = 0;
+		N = 0;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for copying an accumulator
+	// ---------------------------------------------------------------------------
+	public RocAccumulator copy(){
+
+		RocAccumulator copy = new RocAccumulator(bins, min, max);
+
+		copy.merge(this);
+
+		return copy;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute ROC curve snapshot (bins + 1 vertices)
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics getRoc(){
+
+		return RocCurveBuilder.histogram(getBinEdges(), POS_COUNTS, NEG_COUNTS);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute Area Under Curve without building ROC curve
+	// Instances in the same bin are considered as ties
+	// ---------------------------------------------------------------------------
+	public double computeAUC(){
+
+		double area = 0.0;
+
+		long TP = 0;
+
+		for (int i=bins-1; i>=0; i--){
+
+			area += NEG_COUNTS[i]*(TP + 0.5*POS_COUNTS[i]);
+
+			TP += POS_COUNTS[i];
+
+		}
+
+		return area/((double)(P)*(double)(N));
+
+	}
+
+}
@@ -0,0 +1,447 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import java.util.Arrays;
+
+
+//=================================================================================
+// Class for storing a ROC curve in compact and immutable form
+// Only vertices coordinates, optional score thresholds and instances numbers are
+// stored (no graphics, no scores, no resampled tables). Coordinates may be stored
+// in double precision, in single precision (float32) or quantized on 16 bits
+// (absolute error lower than 1e-5). Thresholds are stored in double precision or
+// in single precision for compact formats.
+// Since instances are immutable, storage arrays are shared between curves built
+// on the same FPR grid (see onSameGrid) and may be shared by many copies.
+// Date : 18/10/2026
+//=================================================================================
+
+public final class RocCurve {
+
+	// Storage precisions
+	public static final int PRECISION_DOUBLE = 1;
+	public static final int PRECISION_FLOAT = 2;
+	public static final int PRECISION_QUANTIZED = 3;
+
+	// Quantization scale
+	private static final double SCALE = 65535.0;
+
+	// Storage precision
+	private final int precision;
+
+	// Coordinates (only arrays of storage precision are defined)
+	private final double[] XD;
+	private final double[] YD;
+	private final float[] XF;
+	private final float[] YF;
+	private final char[] XQ;
+	private final char[] YQ;
+
+	// Thresholds (null if unknown)
+	private final double[] TD;
+	private final float[] TF;
+
+	// Instances number
+	private final int P;
+	private final int N;
+
+	// Getters
+	public int getPrecision(){return precision;}
+	public int getPositiveInstancesNumber(){return P;}
+	public int getNegativeInstancesNumber(){return N;}
+
+
+	// ---------------------------------------------------------------------------
+	// Private constructor (arrays are not copied)
+	// ---------------------------------------------------------------------------
+	private RocCurve(int precision, double[] XD, double[] YD, float[] XF, float[] YF, char[] XQ, char[] YQ, double[] TD, float[] TF, int P, int N){
+
+		this.precision = precision;
+
+		this.XD = XD;
+		this.YD = YD;
+		this.XF = XF;
+		this.YF = YF;
+		this.XQ = XQ;
+		this.YQ = YQ;
+
+		this.TD = TD;
+		this.TF = TF;
+
+		this.P = P;
+		this.N = N;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to build a compact curve from a ROC curve (double precision)
+	// ---------------------------------------------------------------------------
+	public static RocCurve of(ReceiverOperatingCharacteristics roc){
+
+		return of(roc, PRECISION_DOUBLE);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to build a compact curve from a ROC curve
+	// ---------------------------------------------------------------------------
+	public static RocCurve of(ReceiverOperatingCharacteristics roc, int precision){
+
+		return of(roc.getXRoc(), roc.getYRoc(), roc.getThresholds(), roc.getPositiveInstancesNumber(), roc.getNegativeInstancesNumber(), precision);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to build a compact curve from vertices
+	// Inputs : FPR, TPR, thresholds (may be null), instances numbers, precision
+	// ---------------------------------------------------------------------------
+	public static RocCurve of(double[] fpr, double[] tpr, double[] thresholds, int P, int N, int precision){
+
+		if ((fpr.length != tpr.length) || ((thresholds != null) && (thresholds.length != fpr.length))){
+
+			System.err.println("Error : TPR, FPR and thresholds must have same dimension to build ROC curve");
+			System.exit(1);
+
+		}
+
+		checkPrecision(precision);
+
+		double[] TD = null;
+		float[] TF = null;
+
+		if (thresholds != null){
+
+			if (precision == PRECISION_DOUBLE){TD = Arrays.copyOf(thresholds, thresholds.length);}
+			else{TF = toFloat(thresholds);}
+
+		}
+
+		if (precision == PRECISION_FLOAT){
+
+			return new RocCurve(precision, null, null, toFloat(fpr), toFloat(tpr), null, null, TD, TF, P, N);
+
+		}
+
+		if (precision == PRECISION_QUANTIZED){
+
+			return new RocCurve(precision, null, null, null, null, quantize(fpr), quantize(tpr), TD, TF, P, N);
+
+		}
+
+		return new RocCurve(precision, Arrays.copyOf(fpr, fpr.length), Arrays.copyOf(tpr, tpr.length), null, null, null, null, TD, TF, P, N);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to build a curve with same FPR grid and thresholds as this curve
+	// FPR and thresholds storages are shared (only TPR are stored)
+	// ---------------------------------------------------------------------------
+	public RocCurve onSameGrid(double[] tpr, int P, int N){
+
+		if (tpr.length != size()){
+
+			System.err.println("Error : TPR must have same dimension as FPR grid");
+			System.exit(1);
+
+		}
+
+		if (precision == PRECISION_FLOAT){
+
+			return new RocCurve(precision, null, null, XF, toFloat(tpr), null, null, TD, TF, P, N);
+
+		}
+
+		if (precision == PRECISION_QUANTIZED){
+
+			return new RocCurve(precision, null, null, null, null, XQ, quantize(tpr), TD, TF, P, N);
+
+		}
+
+		return new RocCurve(precision, XD, Arrays.copyOf(tpr, tpr.length), null, null, null, null, TD, TF, P, N);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to convert this curve to another precision
+	// ---------------------------------------------------------------------------
+	public RocCurve withPrecision(int precision){
+
+		if (precision == this.precision){
+
+			return this;
+
+		}
+
+		return of(getFalsePositiveRates(), getTruePositiveRates(), getThresholds(), P, N, precision);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get number of vertices
+	// ---------------------------------------------------------------------------
+	public int size(){
+
+		if (precision == PRECISION_FLOAT){return XF.length;}
+		if (precision == PRECISION_QUANTIZED){return XQ.length;}
+
+		return XD.length;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get FPR of vertex i
+	// ---------------------------------------------------------------------------
+	public double getFalsePositiveRate(int i){
+
+		if (precision == PRECISION_FLOAT){return XF[i];}
+		if (precision == PRECISION_QUANTIZED){return XQ[i]/SCALE;}
+
+		return XD[i];
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get TPR of vertex i
+	// ---------------------------------------------------------------------------
+	public double getTruePositiveRate(int i){
+
+		if (precision == PRECISION_FLOAT){return YF[i];}
+		if (precision == PRECISION_QUANTIZED){return YQ[i]/SCALE;}
+
+		return YD[i];
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get threshold of vertex i (NaN if unknown)
+	// ---------------------------------------------------------------------------
+	public double getThreshold(int i){
+
+		if (TD != null){return TD[i];}
+		if (TF != null){return TF[i];}
+
+		return Double.NaN;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to test if thresholds are known
+	// ---------------------------------------------------------------------------
+	public boolean hasThresholds(){
+
+		return (TD != null) || (TF != null);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get all FPR (decoded copy)
+	// ---------------------------------------------------------------------------
+	public double[] getFalsePositiveRates(){
+
+		double[] X = new double[size()];
+
+		for (int i=0; i<X.length; i++){
+
+			X[i] = getFalsePositiveRate(i);
+
+		}
+
+		return X;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get all TPR (decoded copy)
+	// ---------------------------------------------------------------------------
+	public double[] getTruePositiveRates(){
+
+		double[] Y = new double[size()];
+
+		for (int i=0; i<Y.length; i++){
+
+			Y[i] = getTruePositiveRate(i);
+
+		}
+
+		return Y;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get all thresholds (decoded copy, null if unknown)
+	// ---------------------------------------------------------------------------
+	public double[] getThresholds(){
+
+		if (!hasThresholds()){
+
+			return null;
+
+		}
+
+		double[] T = new double[size()];
+
+		for (int i=0; i<T.length; i++){
+
+			T[i] = getThreshold(i);
+
+		}
+
+		return T;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing Area Under Curve (trapezoidal rule)
+	// ---------------------------------------------------------------------------
+	public double computeAUC(){
+
+		double area = 0.0;
+
+		for (int i=0; i<size()-1; i++){
+
+			double x1 = getFalsePositiveRate(i);
+			double x2 = getFalsePositiveRate(i+1);
+
+			area += Math.abs(x2-x1)*0.5*(getTruePositiveRate(i)+getTruePositiveRate(i+1));
+
+		}
+
+		return area;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Getter FPR -> TPR (binary search and linear interpolation)
+	// ---------------------------------------------------------------------------
+	public double getTruePositiveRate(double falsePositiveRate){
+
+		int n = size();
+
+		// First vertex with FPR strictly greater than input rate
+		int inf = 0;
+		int sup = n;
+
+		while (inf < sup){
+
+			int mid = (inf+sup) >>> 1;
+
+			if (getFalsePositiveRate(mid) <= falsePositiveRate){inf = mid+1;}
+			else{sup = mid;}
+
+		}
+
+		if (inf == 0){return getTruePositiveRate(0);}
+		if (inf == n){return getTruePositiveRate(n-1);}
+
+		double d1 = falsePositiveRate - getFalsePositiveRate(inf-1);
+		double d2 = getFalsePositiveRate(inf) - falsePositiveRate;
+
+		return (d2*getTruePositiveRate(inf-1) + d1*getTruePositiveRate(inf))/(d1+d2);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to build a full ROC curve (e.g. for plotting)
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics toRoc(){
+
+		return new ReceiverOperatingCharacteristics(this);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Equality of curves (same precision and same stored values)
+	// ---------------------------------------------------------------------------
+	public boolean equals(Object object){
+
+		if (this == object){return true;}
+
+		if (!(object instanceof RocCurve)){return false;}
+
+		RocCurve curve = (RocCurve)object;
+
+		return (precision == curve.precision) && (P == curve.P) && (N == curve.N)
+				&& Arrays.equals(XD, curve.XD) && Arrays.equals(YD, curve.YD)
+				&& Arrays.equals(XF, curve.XF) && Arrays.equals(YF, curve.YF)
+				&& Arrays.equals(XQ, curve.XQ) && Arrays.equals(YQ, curve.YQ)
+				&& Arrays.equals(TD, curve.TD) && Arrays.equals(TF, curve.TF);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Hash code consistent with equality
+	// ---------------------------------------------------------------------------
+	public int hashCode(){
+
+		int hash = 31*precision + 17*P + N;
+
+		hash = 31*hash + Arrays.hashCode(XD) + Arrays.hashCode(XF) + Arrays.hashCode(XQ);
+		hash = 31*hash + Arrays.hashCode(YD) + Arrays.hashCode(YF) + Arrays.hashCode(YQ);
+		hash = 31*hash + Arrays.hashCode(TD) + Arrays.hashCode(TF);
+
+		return hash;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to check storage precision code
+	// ---------------------------------------------------------------------------
+	private static void checkPrecision(int precision){
+
+		if ((precision != PRECISION_DOUBLE) && (precision != PRECISION_FLOAT) && (precision != PRECISION_QUANTIZED)){
+
+			System.err.println("Error : unknown ROC curve storage precision");
+			System.exit(1);
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to convert values to single precision
+	// ---------------------------------------------------------------------------
+	private static float[] toFloat(double[] values){
+
+		float[] output = new float[values.length];
+
+		for (int i=0; i<values.length; i++){
+
+			output[i] = (float)values[i];
+
+		}
+
+		return output;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to quantize rates in [0,1] on 16 bits
+	// ---------------------------------------------------------------------------
+	private static char[] quantize(double[] values){
+
+		char[] output = new char[values.length];
+
+		for (int i=0; i<values.length; i++){
+
+			double v = Math.max(Math.min(values[i], 1.0), 0.0);
+
+			output[i] = (char)Math.round(v*SCALE);
+
+		}
+
+		return output;
+
+	}
+
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+
+// =================================================================================
+// Protected class for computing weighted averages of Receiver Operating Curves
+// ---------------------------------------------------------------------------------
+// - Vertical averaging : all curves are resampled on the regular FPR grid of the
+// first curve, and TPR are averaged at each FPR value.
+//---------------------------------------------------------------------------------
+// - Threshold averaging : FPR and TPR of vertices with same index (i.e. same
+// threshold) are averaged. Curves must have same resolution.
+//---------------------------------------------------------------------------------
+// Weights are real numbers (not necessarily normalized) and average is computed in
+// a single pass, hence complexity is O(resolution x number of curves). Score
+// thresholds are averaged as well when they are known for all curves.
+//---------------------------------------------------------------------------------
+// Date : 18/10/2026
+//=================================================================================
+
+class RocCurveAverager {
+
+	// ---------------------------------------------------------------------------
+	// Method to compute weighted average of a collection of ROC curves
+	// Inputs : ROC curves, weights (one per curve) and averaging method
+	// Output : averaged ROC curve
+	// ---------------------------------------------------------------------------
+	protected static ReceiverOperatingCharacteristics average(RocCurvesCollection ROCS, double[] weights, int method){
+
+		if (ROCS.size() == 0){
+
+			System.err.println("Error : ROC curves collection must contain at least 1 curve to be averaged");
+			System.exit(1);
+
+		}
+
+		if (weights.length != ROCS.size()){
+
+			System.err.println("Error : weights vector must have same size as ROC curves collection");
+			System.exit(1);
+
+		}
+
+		double sum = 0.0;
+
+		for (int j=0; j<weights.length; j++){
+
+			if (!(weights[j] >= 0)){
+
+				System.err.println("Error : averaging weights must be positive");
+				System.exit(1);
+
+			}
+
+			sum += weights[j];
+
+		}
+
+		if (sum == 0){
+
+			System.err.println("Error : at least one averaging weight must be strictly positive");
+			System.exit(1);
+
+		}
+
+		if ((method != ConfidenceBands.METHOD_VERTICAL_AVERAGING) && (method != ConfidenceBands.METHOD_THRESHOLD_AVERAGING)){
+
+			System.err.println("Error : ROC curves must be averaged with vertical or threshold averaging method");
+			System.exit(1);
+
+		}
+
+		int resolution = ROCS.get(0).getResolution();
+
+		double[] X = new double[resolution];
+		double[] Y = new double[resolution];
+		double[] T = new double[resolution];
+
+		boolean thresholds = true;
+
+		for (int j=0; j<ROCS.size(); j++){
+
+			ReceiverOperatingCharacteristics roc = ROCS.get(j);
+
+			if (method == ConfidenceBands.METHOD_VERTICAL_AVERAGING){
+
+				roc = roc.resample(resolution);
+
+			}
+			else if (roc.getResolution() != resolution){
+
+				System.err.println("Error : ROC curves must be of same resolutions");
+				System.exit(1);
+
+			}
+
+			double w = weights[j];
+
+			thresholds = thresholds && (roc.TROC != null);
+
+			for (int i=0; i<resolution; i++){
+
+				X[i] += w*roc.XROC[i];
+				Y[i] += w*roc.YROC[i];
+
+				if (thresholds){
+
+					T[i] += w*roc.TROC[i];
+
+				}
+
+			}
+
+		}
+
+		for (int i=0; i<resolution; i++){
+
+			X[i] /= sum;
+			Y[i] /= sum;
+			T[i] /= sum;
+
+		}
+
+		ReceiverOperatingCharacteristics average = new ReceiverOperatingCharacteristics(X, Y);
+
+		if (thresholds){
+
+			average.TROC = T;
+
+		}
+
+		// Instances numbers
+		int P = 0;
+		int N = 0;
+
+		for (int j=0; j<ROCS.size(); j++){
+
+			int Pj = ROCS.get(j).getPositiveInstancesNumber();
+			int Nj = ROCS.get(j).getNegativeInstancesNumber();
+
+			P = ROCS.areRocCurvesStatisticallyIndependent() ? P + Pj : Math.max(P, Pj);
+			N = ROCS.areRocCurvesStatisticallyIndependent() ? N + Nj : Math.max(N, Nj);
+
+		}
+
+		average.setPositiveInstancesNumber(P);
+		average.setNegativeInstancesNumber(N);
+
+		return average;
+
+	}
+
+}
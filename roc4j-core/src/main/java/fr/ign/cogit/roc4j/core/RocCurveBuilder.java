@@ -0,0 +1,667 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import java.util.Arrays;
+
+import fr.ign.cogit.roc4j.utils.Tools;
+
+
+// =================================================================================
+// Protected class for building Receiver Operating Curves from classifier scores
+// ---------------------------------------------------------------------------------
+// - Method sweep : for each of the resolution thresholds, all instances scores are
+// compared to the threshold. Complexity is O(resolution x n). This is the reference
+// implementation, kept for validation purpose.
+//---------------------------------------------------------------------------------
+// - Method sort : positive and negative scores are sorted once, then thresholds are
+// visited in decreasing order while two cursors are moved down the sorted scores.
+// Complexity is O(n log(n) + resolution) and output curve is strictly identical to
+// the one computed with sweep method.
+//---------------------------------------------------------------------------------
+// - Method exact : empirical ROC curve with one vertex for each distinct score
+// value (ties between positive and negative instances are handled as a single
+// diagonal step). Scores are not required to lie in [0,1]. Resolution of output
+// curve is the number of distinct scores + 1.
+//---------------------------------------------------------------------------------
+// - Method weighted : same as sort (or exact) method with one weight for each
+// instance (e.g. multiplicity of deduplicated instances or inverse sampling rate).
+// Cumulative weights are used in place of counts, hence with integer weights
+// output curve is identical to the one computed on expanded instances.
+//---------------------------------------------------------------------------------
+// - Method histogram : ROC curve computed from numbers of positive and negative
+// instances counted in score bins. One vertex is output for each bin edge, hence
+// complexity is O(bins) whatever the number of instances. Bin centers weighted by
+// counts are saved as scores (for exact AUC and kernel smoothing).
+//---------------------------------------------------------------------------------
+// - Method counts : ROC curve computed from cumulative numbers of true and false
+// positives at decreasing thresholds. Instances newly counted at a threshold are
+// located at this threshold for scores-based methods.
+//---------------------------------------------------------------------------------
+// Exact, weighted exact, grouped and threshold sweep computations share a single
+// walk down distinct scores (method walk), which outputs thresholds and cumulative
+// numbers (or weights) of true and false positives.
+//---------------------------------------------------------------------------------
+// Date : 18/10/2026
+//=================================================================================
+
+class RocCurveBuilder {
+
+	// ---------------------------------------------------------------------------
+	// Method to split scores according to expected classes
+	// Inputs : expected classes (0 or 1) and scores
+	// Output : array {positive scores, negative scores}
+	// ---------------------------------------------------------------------------
+	protected static double[][] splitScores(int[] expected, double[] probabilities){
+
+		int P = 0;
+		int N = 0;
+
+		for (int i=0; i<expected.length; i++){
+
+			if (expected[i] == 1){P++;}
+			if (expected[i] == 0){N++;}
+
+		}
+
+		double[] POS_SCORES = new double[P];
+		double[] NEG_SCORES = new double[N];
+
+		int cp = 0;
+		int cn = 0;
+
+		for (int i=0; i<expected.length; i++){
+
+			if (expected[i] == 0){
+
+				NEG_SCORES[cn] = probabilities[i];
+				cn++;
+
+			}
+
+			if (expected[i] == 1){
+
+				POS_SCORES[cp] = probabilities[i];
+				cp++;
+
+			}
+
+		}
+
+		double[][] output = {POS_SCORES, NEG_SCORES};
+
+		return output;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to split scores according to expected classes
+	// Inputs : expected classes (0 or 1) and scores
+	// Output : none (void) positive and negative scores saved in ROC curve
+	// ---------------------------------------------------------------------------
+	protected static void splitScores(ReceiverOperatingCharacteristics roc, int[] expected, double[] probabilities){
+
+		double[][] scores = splitScores(expected, probabilities);
+
+		roc.setScores(scores[0], scores[1]);
+
+		roc.setPositiveInstancesNumber(scores[0].length);
+		roc.setNegativeInstancesNumber(scores[1].length);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to split weights according to expected classes
+	// Inputs : expected classes (0 or 1) and weights
+	// Output : array {positive weights, negative weights}
+	// ---------------------------------------------------------------------------
+	protected static double[][] splitWeights(int[] expected, double[] weights){
+
+		if (weights.length != expected.length){
+
+			System.err.println("Error : expected and weights vectors must have same dimension");
+			System.exit(1);
+
+		}
+
+		for (int i=0; i<weights.length; i++){
+
+			if (!(weights[i] >= 0)){
+
+				System.err.println("Error : instances weights must be positive");
+				System.exit(1);
+
+			}
+
+		}
+
+		return splitScores(expected, weights);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to walk down distinct scores of sorted positive and negative scores
+	// (ties between positive and negative instances are handled as a single step)
+	// Inputs : sorted segments [p0, p1) of positive scores and [n0, n1) of negative
+	// scores without missing values, and their weights (null for unit weights)
+	// Output : array {thresholds, true positives, false positives}, with one entry
+	// for each distinct score + 1 (index 0 : no instance is classified positive)
+	// ---------------------------------------------------------------------------
+	protected static double[][] walk(double[] pos, double[] wpos, int p0, int p1, double[] neg, double[] wneg, int n0, int n1){
+
+		int size = (p1 - p0) + (n1 - n0) + 1;
+
+		double[] T = new double[size];
+		double[] TP = new double[size];
+		double[] FP = new double[size];
+
+		// First threshold : no instance is classified positive
+		double max = Double.NEGATIVE_INFINITY;
+
+		if (p1 > p0){max = Math.max(max, pos[p1-1]);}
+		if (n1 > n0){max = Math.max(max, neg[n1-1]);}
+
+		T[0] = Math.nextUp(max);
+
+		int ip = p1;
+		int in = n1;
+		int k = 1;
+
+		double tp = 0.0;
+		double fp = 0.0;
+
+		// Walking down distinct scores
+		while ((ip > p0) || (in > n0)){
+
+			double t = Double.NEGATIVE_INFINITY;
+
+			if (ip > p0){t = Math.max(t, pos[ip-1]);}
+			if (in > n0){t = Math.max(t, neg[in-1]);}
+
+			while ((ip > p0) && (pos[ip-1] >= t)){ip--; tp += (wpos == null) ? 1.0 : wpos[ip];}
+			while ((in > n0) && (neg[in-1] >= t)){in--; fp += (wneg == null) ? 1.0 : wneg[in];}
+
+			T[k] = t;
+			TP[k] = tp;
+			FP[k] = fp;
+
+			k++;
+
+		}
+
+		double[][] output = {Arrays.copyOf(T, k), Arrays.copyOf(TP, k), Arrays.copyOf(FP, k)};
+
+		return output;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to build a ROC curve by sweeping thresholds over all instances
+	// Inputs : ROC curve (with resolution set), expected classes and scores
+	// Output : none (void) modified ROC curve
+	// ---------------------------------------------------------------------------
+	protected static void sweep(ReceiverOperatingCharacteristics roc, int[] expected, double[] probabilities){
+
+		int resolution = roc.resolution;
+
+		int n = expected.length;
+
+		roc.XROC = new double[resolution];
+		roc.YROC = new double[resolution];
+		roc.TROC = new double[resolution];
+
+		for (int k=0; k<resolution; k++){
+
+			// Threshold
+			double t = 1.0-(double)(k)/(double)(resolution-1);
+
+			// Confusions
+			int TP = 0;
+			int TN = 0;
+			int FP = 0;
+			int FN = 0;
+
+			for (int i=0; i<n; i++){
+
+				if ((probabilities[i] >= t) && (expected[i] == 1)){TP ++;}
+
+				if ((probabilities[i] >= t) && (expected[i] == 0)){FP ++;}
+
+				if ((probabilities[i] < t) && (expected[i] == 1)){FN ++;}
+
+				if ((probabilities[i] < t) && (expected[i] == 0)){TN ++;}
+
+			}
+
+			int P = TP + FN;
+			int N = FP + TN;
+
+			// Rates
+			double TPR = (double)(TP)/(double)(P);
+			double FPR = 1.0-(double)(TN)/(double)(N);
+
+			// Point ROC
+			roc.XROC[k] = FPR;
+			roc.YROC[k] = TPR;
+			roc.TROC[k] = t;
+
+		}
+
+		splitScores(roc, expected, probabilities);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to build a ROC curve with a single sort of instances scores
+	// Inputs : ROC curve (with resolution set), expected classes and scores
+	// Output : none (void) modified ROC curve
+	// ---------------------------------------------------------------------------
+	protected static void sort(ReceiverOperatingCharacteristics roc, int[] expected, double[] probabilities){
+
+		int resolution = roc.resolution;
+
+		splitScores(roc, expected, probabilities);
+
+		double[] pos = Arrays.copyOf(roc.POS_SCORES, roc.POS_SCORES.length);
+		double[] neg = Arrays.copyOf(roc.NEG_SCORES, roc.NEG_SCORES.length);
+
+		Arrays.sort(pos);
+		Arrays.sort(neg);
+
+		// Missing (NaN) scores are sorted last and never counted
+		int P = pos.length;
+		int N = neg.length;
+
+		while ((P > 0) && Double.isNaN(pos[P-1])){P--;}
+		while ((N > 0) && Double.isNaN(neg[N-1])){N--;}
+
+		roc.XROC = new double[resolution];
+		roc.YROC = new double[resolution];
+		roc.TROC = new double[resolution];
+
+		// Cursors on first score greater or equal than current threshold
+		int ip = P;
+		int in = N;
+
+		for (int k=0; k<resolution; k++){
+
+			// Threshold (decreasing with k)
+			double t = 1.0-(double)(k)/(double)(resolution-1);
+
+			while ((ip > 0) && (pos[ip-1] >= t)){ip--;}
+			while ((in > 0) && (neg[in-1] >= t)){in--;}
+
+			// Confusions
+			int TP = P - ip;
+			int TN = in;
+
+			// Rates
+			double TPR = (double)(TP)/(double)(P);
+			double FPR = 1.0-(double)(TN)/(double)(N);
+
+			// Point ROC
+			roc.XROC[k] = FPR;
+			roc.YROC[k] = TPR;
+			roc.TROC[k] = t;
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to build exact empirical ROC curve (one vertex per distinct score)
+	// Inputs : ROC curve, expected classes and scores
+	// Output : none (void) modified ROC curve (resolution is updated)
+	// ---------------------------------------------------------------------------
+	protected static void exact(ReceiverOperatingCharacteristics roc, int[] expected, double[] probabilities){
+
+		splitScores(roc, expected, probabilities);
+
+		double[] pos = Arrays.copyOf(roc.POS_SCORES, roc.POS_SCORES.length);
+		double[] neg = Arrays.copyOf(roc.NEG_SCORES, roc.NEG_SCORES.length);
+
+		Arrays.sort(pos);
+		Arrays.sort(neg);
+
+		// Missing (NaN) scores are sorted last and never counted
+		int P = pos.length;
+		int N = neg.length;
+
+		while ((P > 0) && Double.isNaN(pos[P-1])){P--;}
+		while ((N > 0) && Double.isNaN(neg[N-1])){N--;}
+
+		double[][] counts = walk(pos, null, 0, P, neg, null, 0, N);
+
+		setRates(roc, counts, P, N);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to set vertices of an exact ROC curve from output of walk method
+	// Inputs : ROC curve, walk output and total numbers (or weights) of positive
+	// and negative instances
+	// Output : none (void) modified ROC curve (resolution is updated)
+	// ---------------------------------------------------------------------------
+	private static void setRates(ReceiverOperatingCharacteristics roc, double[][] counts, double P, double N){
+
+		int k = counts[0].length;
+
+		roc.resolution = k;
+
+		roc.XROC = new double[k];
+		roc.YROC = new double[k];
+		roc.TROC = counts[0];
+
+		// First vertex : no instance is classified positive
+		for (int i=1; i<k; i++){
+
+			roc.XROC[i] = counts[2][i]/N;
+			roc.YROC[i] = counts[1][i]/P;
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to build a ROC curve from weighted instances
+	// Inputs : ROC curve (with resolution set), expected classes, scores, weights
+	// and exact mode (one vertex per distinct score if true)
+	// Output : none (void) modified ROC curve
+	// ---------------------------------------------------------------------------
+	protected static void weighted(ReceiverOperatingCharacteristics roc, int[] expected, double[] probabilities, double[] weights, boolean exact){
+
+		double[][] scores = splitScores(expected, probabilities);
+		double[][] masses = splitWeights(expected, weights);
+
+		roc.setScores(scores[0], scores[1]);
+		roc.POS_WEIGHTS = masses[0];
+		roc.NEG_WEIGHTS = masses[1];
+
+		double[] pos = Arrays.copyOf(scores[0], scores[0].length);
+		double[] neg = Arrays.copyOf(scores[1], scores[1].length);
+		double[] wpos = Arrays.copyOf(masses[0], masses[0].length);
+		double[] wneg = Arrays.copyOf(masses[1], masses[1].length);
+
+		Tools.sort(pos, wpos);
+		Tools.sort(neg, wneg);
+
+		// Missing (NaN) scores are sorted last and never counted
+		int np = pos.length;
+		int nn = neg.length;
+
+		while ((np > 0) && Double.isNaN(pos[np-1])){np--;}
+		while ((nn > 0) && Double.isNaN(neg[nn-1])){nn--;}
+
+		double P = 0.0;
+		double N = 0.0;
+
+		for (int i=0; i<np; i++){P += wpos[i];}
+		for (int i=0; i<nn; i++){N += wneg[i];}
+
+		roc.setPositiveInstancesNumber((int)Math.min(Math.round(P), Integer.MAX_VALUE));
+		roc.setNegativeInstancesNumber((int)Math.min(Math.round(N), Integer.MAX_VALUE));
+
+		if (exact){
+
+			setRates(roc, walk(pos, wpos, 0, np, neg, wneg, 0, nn), P, N);
+
+			return;
+
+		}
+
+		int size = roc.resolution;
+
+		roc.XROC = new double[size];
+		roc.YROC = new double[size];
+		roc.TROC = new double[size];
+
+		// Cursors on first score greater or equal than current threshold
+		int ip = np;
+		int in = nn;
+
+		double TP = 0.0;
+		double FP = 0.0;
+
+		for (int k=0; k<size; k++){
+
+			double t = 1.0-(double)(k)/(double)(size-1);
+
+			while ((ip > 0) && (pos[ip-1] >= t)){TP += wpos[--ip];}
+			while ((in > 0) && (neg[in-1] >= t)){FP += wneg[--in];}
+
+			// Rates (computed as in unweighted methods)
+			roc.XROC[k] = 1.0-(N-FP)/N;
+			roc.YROC[k] = TP/P;
+			roc.TROC[k] = t;
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to build a ROC curve from score histograms
+	// Inputs : bin edges (increasing, size bins+1), positive and negative 
+	// instances counts in each bin (size bins)
+	// Output : ROC curve with bins+1 vertices (from highest to lowest edge)
+	// ---------------------------------------------------------------------------
+	protected static ReceiverOperatingCharacteristics histogram(double[] edges, long[] pos, long[] neg){
+
+		int bins = pos.length;
+
+		if ((neg.length != bins) || (edges.length != bins+1)){
+
+			System.err.println("Error : histograms must have same number of bins and bin edges number must be bins number + 1");
+			System.exit(1);
+
+		}
+
+		long P = 0;
+		long N = 0;
+
+		for (int i=0; i<bins; i++){
+
+			P += pos[i];
+			N += neg[i];
+
+		}
+
+		double[] X = new double[bins+1];
+		double[] Y = new double[bins+1];
+		double[] T = new double[bins+1];
+
+		long TP = 0;
+		long FP = 0;
+
+		X[0] = 0.0;
+		Y[0] = 0.0;
+		T[0] = edges[bins];
+
+		// Cumulative pass from highest bin
+		for (int j=1; j<=bins; j++){
+
+			TP += pos[bins-j];
+			FP += neg[bins-j];
+
+			X[j] = (double)(FP)/(double)(N);
+			Y[j] = (double)(TP)/(double)(P);
+			T[j] = edges[bins-j];
+
+		}
+
+		ReceiverOperatingCharacteristics roc = new ReceiverOperatingCharacteristics(X, Y);
+
+		roc.TROC = T;
+
+		roc.setPositiveInstancesNumber((int)Math.min(P, Integer.MAX_VALUE));
+		roc.setNegativeInstancesNumber((int)Math.min(N, Integer.MAX_VALUE));
+
+		// Weighted scores at bin centers
+		double[] centers = new double[bins];
+
+		for (int i=0; i<bins; i++){
+
+			centers[i] = 0.5*(edges[i]+edges[i+1]);
+
+		}
+
+		setWeightedScores(roc, centers, pos, neg);
+
+		return roc;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to build a ROC curve from cumulative confusion counts
+	// Inputs : thresholds (decreasing), numbers of true and false positives at
+	// each threshold (non-decreasing), total numbers of positive and negative
+	// instances
+	// Output : ROC curve (end points are added if needed)
+	// ---------------------------------------------------------------------------
+	protected static ReceiverOperatingCharacteristics counts(double[] thresholds, long[] TP, long[] FP, long P, long N){
+
+		int size = thresholds.length;
+
+		if ((TP.length != size) || (FP.length != size) || (size == 0)){
+
+			System.err.println("Error : thresholds, true and false positives vectors must have same (non-null) dimension");
+			System.exit(1);
+
+		}
+
+		for (int k=0; k<size; k++){
+
+			boolean valid = (TP[k] >= 0) && (FP[k] >= 0) && (TP[k] <= P) && (FP[k] <= N);
+
+			if (k > 0){
+
+				valid = valid && (thresholds[k] < thresholds[k-1]) && (TP[k] >= TP[k-1]) && (FP[k] >= FP[k-1]);
+
+			}
+
+			if (!valid){
+
+				System.err.println("Error : thresholds must be decreasing and confusion counts must be non-decreasing and bounded by instances numbers");
+				System.exit(1);
+
+			}
+
+		}
+
+		boolean first = (TP[0] > 0) || (FP[0] > 0);
+		boolean last = (TP[size-1] < P) || (FP[size-1] < N);
+
+		int n = size + (first ? 1 : 0) + (last ? 1 : 0);
+
+		double[] X = new double[n];
+		double[] Y = new double[n];
+		double[] T = new double[n];
+
+		// Scores of instances newly counted at each vertex
+		double[] scores = new double[n];
+		long[] pos = new long[n];
+		long[] neg = new long[n];
+
+		int j = 0;
+
+		if (first){
+
+			T[j] = Math.nextUp(thresholds[0]);
+			j++;
+
+		}
+
+		for (int k=0; k<size; k++){
+
+			X[j] = (double)(FP[k])/(double)(N);
+			Y[j] = (double)(TP[k])/(double)(P);
+			T[j] = thresholds[k];
+
+			scores[j] = thresholds[k];
+			pos[j] = TP[k] - ((k > 0) ? TP[k-1] : 0);
+			neg[j] = FP[k] - ((k > 0) ? FP[k-1] : 0);
+
+			j++;
+
+		}
+
+		if (last){
+
+			X[j] = 1.0;
+			Y[j] = 1.0;
+			T[j] = Double.NEGATIVE_INFINITY;
+
+			scores[j] = Math.nextDown(thresholds[size-1]);
+			pos[j] = P - TP[size-1];
+			neg[j] = N - FP[size-1];
+
+		}
+
+		ReceiverOperatingCharacteristics roc = new ReceiverOperatingCharacteristics(X, Y);
+
+		roc.TROC = T;
+
+		roc.setPositiveInstancesNumber((int)Math.min(P, Integer.MAX_VALUE));
+		roc.setNegativeInstancesNumber((int)Math.min(N, Integer.MAX_VALUE));
+
+		setWeightedScores(roc, scores, pos, neg);
+
+		return roc;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to save scores weighted by instances counts in a ROC curve
+	// Only non-empty scores are kept
+	// ---------------------------------------------------------------------------
+	private static void setWeightedScores(ReceiverOperatingCharacteristics roc, double[] scores, long[] pos, long[] neg){
+
+		int np = 0;
+		int nn = 0;
+
+		for (int i=0; i<scores.length; i++){
+
+			if (pos[i] > 0){np++;}
+			if (neg[i] > 0){nn++;}
+
+		}
+
+		roc.setScores(new double[np], new double[nn]);
+		roc.POS_WEIGHTS = new double[np];
+		roc.NEG_WEIGHTS = new double[nn];
+
+		np = 0;
+		nn = 0;
+
+		for (int i=0; i<scores.length; i++){
+
+			if (pos[i] > 0){
+
+				roc.POS_SCORES[np] = scores[i];
+				roc.POS_WEIGHTS[np] = pos[i];
+				np++;
+
+			}
+
+			if (neg[i] > 0){
+
+				roc.NEG_SCORES[nn] = scores[i];
+				roc.NEG_WEIGHTS[nn] = neg[i];
+				nn++;
+
+			}
+
+		}
+
+	}
+
+}
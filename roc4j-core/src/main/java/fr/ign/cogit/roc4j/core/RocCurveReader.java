@@ -0,0 +1,365 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+
+// =================================================================================
+// Protected class for reading ROC curves from text files
+// ---------------------------------------------------------------------------------
+// File is read by blocks of characters in a single pass. Only characters of the
+// FPR and TPR columns are copied, and parsed with a dedicated decimal parser
+// (with fallback on Double.parseDouble for non-trivial cases). Output arrays are
+// grown geometrically, hence reading time is linear in file size.
+//---------------------------------------------------------------------------------
+// Delimiters : any set of characters may be used as fields separators. If all
+// of them are white spaces, consecutive delimiters are merged (as with standard
+// string tokenizer), otherwise each delimiter separates two fields (CSV). Double
+// quotes around values are ignored and blank lines are skipped.
+//---------------------------------------------------------------------------------
+// Date : 18/10/2026
+//=================================================================================
+
+class RocCurveReader {
+
+	// Powers of ten exactly representable in double precision
+	private static final double[] POWERS = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	// ---------------------------------------------------------------------------
+	// Method to read a ROC curve file
+	// Inputs : file path, number of header lines, FPR and TPR columns indices
+	// (starting from 0) and delimiter characters
+	// Output : array {FPR, TPR}
+	// ---------------------------------------------------------------------------
+	protected static double[][] read(String rocFile, int headline, int fpr_column, int tpr_column, String delimiters){
+
+		// Delimiters
+		boolean merge = true;
+
+		for (int i=0; i<delimiters.length(); i++){
+
+			if (!Character.isWhitespace(delimiters.charAt(i))){
+
+				merge = false;
+
+			}
+
+		}
+
+		double[] FPR = new double[1024];
+		double[] TPR = new double[1024];
+		int size = 0;
+
+		char[] buffer = new char[1 << 16];
+		char[] field = new char[64];
+
+		int length = 0;
+		int column = 0;
+		int line = 0;
+		boolean empty = true;
+
+		double fpr = Double.NaN;
+		double tpr = Double.NaN;
+		boolean fprFound = false;
+		boolean tprFound = false;
+
+		Reader reader = null;
+
+		try {
+
+			reader = new InputStreamReader(new FileInputStream(rocFile), StandardCharsets.UTF_8);
+
+			int read = 0;
+
+			boolean end = false;
+
+			while (!end){
+
+				read = reader.read(buffer);
+
+				if (read < 0){
+
+					// Last line without line feed
+					end = true;
+					buffer[0] = '\n';
+					read = 1;
+
+				}
+
+				for (int i=0; i<read; i++){
+
+					char c = buffer[i];
+
+					if (c == '\r' || c == '"'){
+
+						continue;
+
+					}
+
+					boolean eol = (c == '\n');
+
+					if (eol || (delimiters.indexOf(c) >= 0)){
+
+						// End of field (empty fields are skipped in merge mode)
+						if (!(merge && length == 0)){
+
+							if ((line >= headline) && !empty){
+
+								if (column == fpr_column){fpr = parseDouble(field, length); fprFound = true;}
+								if (column == tpr_column){tpr = parseDouble(field, length); tprFound = true;}
+
+							}
+
+							column++;
+
+						}
+
+						length = 0;
+
+						// End of line
+						if (eol){
+
+							if ((line >= headline) && !empty){
+
+								if (!fprFound || !tprFound){
+
+									System.err.println("Error : line "+(line+1)+" of ROC file "+rocFile+" does not contain FPR and TPR columns");
+									System.exit(1);
+
+								}
+
+								if (size == FPR.length){
+
+									FPR = Arrays.copyOf(FPR, 2*size);
+									TPR = Arrays.copyOf(TPR, 2*size);
+
+								}
+
+								FPR[size] = fpr;
+								TPR[size] = tpr;
+								size++;
+
+							}
+
+							line++;
+							column = 0;
+							empty = true;
+							fprFound = false;
+							tprFound = false;
+
+						}
+
+						continue;
+
+					}
+
+					empty = false;
+
+					// Only useful columns are copied
+					if ((line >= headline) && ((column == fpr_column) || (column == tpr_column))){
+
+						if (length == field.length){
+
+							field = Arrays.copyOf(field, 2*length);
+
+						}
+
+						field[length++] = c;
+
+					}
+					else{
+
+						length++;
+
+					}
+
+				}
+
+			}
+
+		} catch (IOException e) {
+
+			e.printStackTrace();
+			System.exit(1);
+
+		} finally {
+
+			try {
+
+				if (reader != null){reader.close();}
+
+			} catch (IOException e) {
+
+				e.printStackTrace();
+
+			}
+
+		}
+
+		double[][] output = {Arrays.copyOf(FPR, size), Arrays.copyOf(TPR, size)};
+
+		return output;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to parse a decimal number from a characters array
+	// Decimal numbers with at most 15 significant digits and a total exponent in
+	// [-22, 22] are converted exactly (single correctly rounded operation). Other
+	// cases fall back on standard Double.parseDouble method.
+	// ---------------------------------------------------------------------------
+	protected static double parseDouble(char[] chars, int length){
+
+		int i = 0;
+
+		boolean negative = false;
+
+		if ((i < length) && (chars[i] == '-' || chars[i] == '+')){
+
+			negative = (chars[i] == '-');
+			i++;
+
+		}
+
+		long mantissa = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean point = false;
+		boolean valid = false;
+
+		// Mantissa
+		for (; i<length; i++){
+
+			char c = chars[i];
+
+			if (c >= '0' && c <= '9'){
+
+				valid = true;
+
+				if (mantissa == 0 && c == '0'){
+
+					if (point){exponent--;}
+					continue;
+
+				}
+
+				if (digits >= 15){
+
+					return fallback(chars, length);
+
+				}
+
+				mantissa = 10*mantissa + (c - '0');
+				digits++;
+
+				if (point){exponent--;}
+
+				continue;
+
+			}
+
+			if (c == '.' && !point){
+
+				point = true;
+				continue;
+
+			}
+
+			break;
+
+		}
+
+		// Exponent
+		if ((i < length) && (chars[i] == 'e' || chars[i] == 'E')){
+
+			i++;
+
+			boolean negativeExponent = false;
+
+			if ((i < length) && (chars[i] == '-' || chars[i] == '+')){
+
+				negativeExponent = (chars[i] == '-');
+				i++;
+
+			}
+
+			int e = 0;
+			int start = i;
+
+			for (; i<length; i++){
+
+				char c = chars[i];
+
+				if (c < '0' || c > '9' || e > 10000){
+
+					return fallback(chars, length);
+
+				}
+
+				e = 10*e + (c - '0');
+
+			}
+
+			if (i == start){
+
+				return fallback(chars, length);
+
+			}
+
+			exponent += negativeExponent ? -e : e;
+
+		}
+
+		if (!valid || (i != length)){
+
+			return fallback(chars, length);
+
+		}
+
+		double value = (double)(mantissa);
+
+		if (mantissa != 0){
+
+			if (exponent < -22 || exponent > 22){
+
+				return fallback(chars, length);
+
+			}
+
+			value = (exponent < 0) ? value/POWERS[-exponent] : value*POWERS[exponent];
+
+		}
+
+		return negative ? -value : value;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to parse a number with standard method
+	// ---------------------------------------------------------------------------
+	private static double fallback(char[] chars, int length){
+
+		return Double.parseDouble(new String(chars, 0, length).trim());
+
+	}
+
+}
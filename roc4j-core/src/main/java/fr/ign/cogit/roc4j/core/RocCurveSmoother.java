@@ -47,10 +47,13 @@ class RocCurveSmoother {
 
 		ArrayList<Double> XROCnew = new ArrayList<Double>();
 		ArrayList<Double> YROCnew = new ArrayList<Double>();
+		ArrayList<Double> TROCnew = new ArrayList<Double>();
 
 		XROCnew.add(roc.XROC[0]);
 		YROCnew.add(roc.YROC[0]);
 
+		if (roc.TROC != null){TROCnew.add(roc.TROC[0]);}
+
 		int index_courant = 0;
 
 		// --------------------------------------------
@@ -94,6 +97,8 @@ class RocCurveSmoother {
 				XROCnew.add(roc.XROC[argmax]*t+roc.XROC[index_courant]*(1-t));
 				YROCnew.add(roc.YROC[argmax]*t+roc.YROC[index_courant]*(1-t));
 
+				if (roc.TROC != null){TROCnew.add(roc.TROC[argmax]*t+roc.TROC[index_courant]*(1-t));}
+
 			}
 
 			index_courant = argmax;
@@ -113,6 +118,8 @@ class RocCurveSmoother {
 				XROCnew.add(roc.XROC[roc.XROC.length-1]*t+roc.XROC[index_courant]*(1-t));
 				YROCnew.add(roc.YROC[roc.XROC.length-1]*t+roc.YROC[index_courant]*(1-t));
 
+				if (roc.TROC != null){TROCnew.add(roc.TROC[roc.XROC.length-1]*t+roc.TROC[index_courant]*(1-t));}
+
 			}
 
 		}
@@ -131,6 +138,18 @@ class RocCurveSmoother {
 
 		}
 
+		if (roc.TROC != null){
+
+			roc.TROC = new double[TROCnew.size()];
+
+			for (int i=0; i<roc.TROC.length; i++){
+
+				roc.TROC[i] = TROCnew.get(i);
+
+			}
+
+		}
+
 
 		roc.resolution = roc.XROC.length;
 
@@ -172,18 +191,18 @@ class RocCurveSmoother {
 
 			for (int i=0; i<roc.getPositiveScore().length; i++){
 
-				mx += roc.getPositiveScore()[i];
-				mx2 += Math.pow(roc.getPositiveScore()[i], 2);
+				mx += weight(roc.POS_WEIGHTS, i)*roc.getPositiveScore()[i];
+				mx2 += weight(roc.POS_WEIGHTS, i)*Math.pow(roc.getPositiveScore()[i], 2);
 
 			}
 
-			mx /= (double)(roc.getPositiveScore().length);
-			mx2 /= (double)(roc.getPositiveScore().length);
+			mx /= totalWeight(roc.getPositiveScore(), roc.POS_WEIGHTS);
+			mx2 /= totalWeight(roc.getPositiveScore(), roc.POS_WEIGHTS);
 
 			double sx = Math.sqrt(mx2-Math.pow(mx, 2));
 			sx = Math.sqrt(roc.getPositiveScore().length/(roc.getPositiveScore().length-1))*sx;
 
-			kernel_pos.setBandwidth(1.06*sx*Math.pow(roc.getPositiveScore().length, -0.2));
+			kernel_pos.setBandwidth(1.06*sx*Math.pow(totalWeight(roc.getPositiveScore(), roc.POS_WEIGHTS), -0.2));
 
 
 		}
@@ -201,18 +220,18 @@ class RocCurveSmoother {
 
 			for (int i=0; i<roc.getNegativeScore().length; i++){
 
-				my += roc.getNegativeScore()[i];
-				my2 += Math.pow(roc.getNegativeScore()[i], 2);
+				my += weight(roc.NEG_WEIGHTS, i)*roc.getNegativeScore()[i];
+				my2 += weight(roc.NEG_WEIGHTS, i)*Math.pow(roc.getNegativeScore()[i], 2);
 
 			}
 
-			my /= (double)(roc.getNegativeScore().length);
-			my2 /= (double)(roc.getNegativeScore().length);
+			my /= totalWeight(roc.getNegativeScore(), roc.NEG_WEIGHTS);
+			my2 /= totalWeight(roc.getNegativeScore(), roc.NEG_WEIGHTS);
 
 			double sy = Math.sqrt(my2-Math.pow(my, 2));
 			sy = Math.sqrt(roc.getNegativeScore().length/(roc.getNegativeScore().length-1))*sy;
 
-			kernel_neg.setBandwidth(1.06*sy*Math.pow(roc.getNegativeScore().length, -0.2));
+			kernel_neg.setBandwidth(1.06*sy*Math.pow(totalWeight(roc.getNegativeScore(), roc.NEG_WEIGHTS), -0.2));
 
 		}
 
@@ -224,6 +243,9 @@ class RocCurveSmoother {
 		double[] F = new double[roc.resolution];
 		double[] G = new double[roc.resolution];
 
+		double WP = totalWeight(roc.getPositiveScore(), roc.POS_WEIGHTS);
+		double WN = totalWeight(roc.getNegativeScore(), roc.NEG_WEIGHTS);
+
 		// --------------------------------------------
 		// Kernel estimation
 		// --------------------------------------------
@@ -238,7 +260,7 @@ class RocCurveSmoother {
 			// Positive instances estimation
 			for (int j=0; j<roc.getPositiveScore().length; j++){
 
-				G[i] += kernel_pos.cdf((x-roc.getPositiveScore()[j])/hp);
+				G[i] += weight(roc.POS_WEIGHTS, j)*kernel_pos.cdf((x-roc.getPositiveScore()[j])/hp);
 
 
 			}
@@ -246,16 +268,19 @@ class RocCurveSmoother {
 			// Negative instances estimation
 			for (int j=0; j<roc.getNegativeScore().length; j++){
 
-				F[i] += kernel_neg.cdf((x-roc.getNegativeScore()[j])/hn);
+				F[i] += weight(roc.NEG_WEIGHTS, j)*kernel_neg.cdf((x-roc.getNegativeScore()[j])/hn);
 
 			}
 
 			// Normalization
-			G[i] /= roc.getPositiveScore().length;
-			F[i] /= roc.getNegativeScore().length;
+			G[i] /= WP;
+			F[i] /= WN;
 
 		}
 
+		// Thresholds are given by generalized inverse of F
+		roc.TROC = new double[roc.resolution];
+
 		// Fonctions composition
 		for (int i=0; i<roc.resolution; i++){
 
@@ -277,6 +302,7 @@ class RocCurveSmoother {
 			
 			// Composition with G
 			roc.YROC[i] = 1-G[(int)(arg*roc.resolution)];
+			roc.TROC[i] = arg;
 
 		}
 		
@@ -434,4 +460,36 @@ class RocCurveSmoother {
 
 	}
 
+	// ---------------------------------------------------------------------------
+	// Method to get weight of a score (unit weight if weights are unknown)
+	// ---------------------------------------------------------------------------
+	private static double weight(double[] weights, int i){
+
+		return (weights == null) ? 1.0 : weights[i];
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get total weight of scores
+	// ---------------------------------------------------------------------------
+	private static double totalWeight(double[] scores, double[] weights){
+
+		if (weights == null){
+
+			return scores.length;
+
+		}
+
+		double sum = 0.0;
+
+		for (int i=0; i<weights.length; i++){
+
+			sum += weights[i];
+
+		}
+
+		return sum;
+
+	}
+
 }
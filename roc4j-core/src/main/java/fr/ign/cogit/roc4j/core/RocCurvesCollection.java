@@ -12,7 +12,6 @@
 
 package fr.ign.cogit.roc4j.core;
 
-import java.awt.Color;
 import java.util.ArrayList;
 
 //=================================================================================
@@ -24,6 +23,7 @@ public class RocCurvesCollection{
 
 	private boolean independent;
 	private ArrayList<ReceiverOperatingCharacteristics> ROCS;
+	private ArrayList<Double> WEIGHTS = new ArrayList<Double>();
 
 	// Getters
 	public boolean areRocCurvesStatisticallyIndependent(){return independent;}
@@ -57,7 +57,24 @@ public class RocCurvesCollection{
 	// ----------------------------------------------------------------------------
 	public void add(ReceiverOperatingCharacteristics roc){
 
+		add(roc, 1.0);
+
+	}
+
+	// ----------------------------------------------------------------------------
+	// Method to add Receiver Operating Characteristics curve with a weight
+	// (used for weighted averaging)
+	// ----------------------------------------------------------------------------
+	public void add(ReceiverOperatingCharacteristics roc, double weight){
+
+		while (WEIGHTS.size() < ROCS.size()){
+
+			WEIGHTS.add(1.0);
+
+		}
+
 		ROCS.add(roc);
+		WEIGHTS.add(weight);
 
 	}
 
@@ -68,6 +85,12 @@ public class RocCurvesCollection{
 
 		ROCS.remove(i);
 
+		if (i < WEIGHTS.size()){
+
+			WEIGHTS.remove(i);
+
+		}
+
 	}
 
 	// ----------------------------------------------------------------------------
@@ -79,6 +102,32 @@ public class RocCurvesCollection{
 
 	}
 
+	// ----------------------------------------------------------------------------
+	// Get weight of a curve (1.0 if not specified)
+	// ----------------------------------------------------------------------------
+	public double getWeight(int i){
+
+		return (i < WEIGHTS.size()) ? WEIGHTS.get(i) : 1.0;
+
+	}
+
+	// ----------------------------------------------------------------------------
+	// Get weights of all curves
+	// ----------------------------------------------------------------------------
+	public double[] getWeights(){
+
+		double[] weights = new double[ROCS.size()];
+
+		for (int i=0; i<weights.length; i++){
+
+			weights[i] = getWeight(i);
+
+		}
+
+		return weights;
+
+	}
+
 	// ----------------------------------------------------------------------------
 	// Get collection size
 	// ----------------------------------------------------------------------------
@@ -209,7 +258,7 @@ public class RocCurvesCollection{
 	// ----------------------------------------------------------------------------
 	// Graphics parameters
 	// ----------------------------------------------------------------------------
-	public void setColor(Color... color){
+	public void setColor(int... color){
 
 		for (ReceiverOperatingCharacteristics roc : ROCS) {
 
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+
+//=================================================================================
+// Class for handling summary of a ROC analysis (exact curve vertices with score
+// thresholds, exact AUC and instances numbers). Full ROC curve object is only
+// built on demand. Instances scores may not be stored (e.g. pooled curves).
+// Date : 18/10/2026
+//=================================================================================
+
+public class RocSummary {
+
+	// Exact curve
+	private double[] FPR;
+	private double[] TPR;
+	private double[] THRESHOLDS;
+
+	// Scores
+	private double[] POS_SCORES;
+	private double[] NEG_SCORES;
+
+	// Area under curve
+	private double auc;
+
+	// Instances number
+	private int P;
+	private int N;
+
+	// Getters
+	public double[] getFalsePositiveRates(){return FPR;}
+	public double[] getTruePositiveRates(){return TPR;}
+	public double[] getThresholds(){return THRESHOLDS;}
+	public double getAUC(){return auc;}
+	public int getPositiveInstancesNumber(){return P;}
+	public int getNegativeInstancesNumber(){return N;}
+	public double[] getPositiveScores(){return POS_SCORES;}
+	public double[] getNegativeScores(){return NEG_SCORES;}
+
+
+	// ---------------------------------------------------------------------------
+	// Constructor
+	// ---------------------------------------------------------------------------
+	protected RocSummary(double[] FPR, double[] TPR, double[] THRESHOLDS, double auc, double[] positives, double[] negatives){
+
+		this.FPR = FPR;
+		this.TPR = TPR;
+		this.THRESHOLDS = THRESHOLDS;
+		this.auc = auc;
+
+		this.POS_SCORES = positives;
+		this.NEG_SCORES = negatives;
+
+		this.P = positives.length;
+		this.N = negatives.length;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Constructor without instances scores
+	// ---------------------------------------------------------------------------
+	protected RocSummary(double[] FPR, double[] TPR, double[] THRESHOLDS, double auc, int positives, int negatives){
+
+		this.FPR = FPR;
+		this.TPR = TPR;
+		this.THRESHOLDS = THRESHOLDS;
+		this.auc = auc;
+
+		this.P = positives;
+		this.N = negatives;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to build ROC curve
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics getRoc(){
+
+		ReceiverOperatingCharacteristics roc = new ReceiverOperatingCharacteristics(FPR, TPR);
+
+		roc.TROC = THRESHOLDS;
+
+		if (POS_SCORES != null){
+
+			roc.setScores(POS_SCORES, NEG_SCORES);
+
+		}
+
+		roc.setPositiveInstancesNumber(P);
+		roc.setNegativeInstancesNumber(N);
+
+		return roc;
+
+	}
+
+}
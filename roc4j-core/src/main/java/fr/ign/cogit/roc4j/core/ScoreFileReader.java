@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+
+//=================================================================================
+// Static class for reading classifier outputs from binary column files
+// Scores are stored as a raw column of float32 or float64 values (little-endian
+// by default) and expected classes as a raw column of bytes (0 or 1), with same
+// number of records. Files are memory-mapped by chunks and streamed in a ROC
+// accumulator, hence files larger than heap may be processed in a single pass.
+// Date : 18/10/2026
+//=================================================================================
+
+public class ScoreFileReader {
+
+	// Score formats
+	public static int FORMAT_FLOAT32 = 1;
+	public static int FORMAT_FLOAT64 = 2;
+
+	// Default number of records mapped at once
+	public static int DEFAULT_CHUNK_SIZE = 1 << 24;
+
+	// Maximal number of records mapped at once (mapped regions are limited to
+	// Integer.MAX_VALUE bytes, with 8 bytes per float64 score)
+	public static int MAX_CHUNK_SIZE = Integer.MAX_VALUE/8;
+
+
+	// ---------------------------------------------------------------------------
+	// Method to read score and label files in a new accumulator (1000 bins)
+	// ---------------------------------------------------------------------------
+	public static RocAccumulator read(String scoreFile, String labelFile, int format){
+
+		RocAccumulator accumulator = new RocAccumulator();
+
+		read(scoreFile, labelFile, format, accumulator);
+
+		return accumulator;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to read score and label files in an accumulator (little-endian)
+	// ---------------------------------------------------------------------------
+	public static void read(String scoreFile, String labelFile, int format, RocAccumulator accumulator){
+
+		read(scoreFile, labelFile, format, ByteOrder.LITTLE_ENDIAN, accumulator);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to read score and label files in an accumulator
+	// ---------------------------------------------------------------------------
+	public static void read(String scoreFile, String labelFile, int format, ByteOrder order, RocAccumulator accumulator){
+
+		read(scoreFile, labelFile, format, order, accumulator, DEFAULT_CHUNK_SIZE);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to read score and label files in an accumulator
+	// Inputs : chunk size is the number of records mapped at once, in
+	// [1, MAX_CHUNK_SIZE]
+	// ---------------------------------------------------------------------------
+	public static void read(String scoreFile, String labelFile, int format, ByteOrder order, RocAccumulator accumulator, int chunkSize){
+
+		if ((chunkSize <= 0) || (chunkSize > MAX_CHUNK_SIZE)){
+
+			System.err.println("Error : chunk size must be included in [1, "+MAX_CHUNK_SIZE+"] interval");
+			System.exit(1);
+
+		}
+
+		int bytes = 0;
+
+		if (format == FORMAT_FLOAT32){bytes = 4;}
+		if (format == FORMAT_FLOAT64){bytes = 8;}
+
+		if (bytes == 0){
+
+			System.err.println("Error : unknown binary score format");
+			System.exit(1);
+
+		}
+
+		RandomAccessFile scores = null;
+		RandomAccessFile labels = null;
+
+		try {
+
+			scores = new RandomAccessFile(scoreFile, "r");
+			labels = new RandomAccessFile(labelFile, "r");
+
+			FileChannel scoreChannel = scores.getChannel();
+			FileChannel labelChannel = labels.getChannel();
+
+			long n = labelChannel.size();
+
+			if (scoreChannel.size() != n*bytes){
+
+				System.err.println("Error : score and label files must have same number of records");
+				System.exit(1);
+
+			}
+
+			// Chunk by chunk reading
+			for (long offset=0; offset<n; offset+=chunkSize){
+
+				int size = (int)Math.min(chunkSize, n-offset);
+
+				MappedByteBuffer scoreBuffer = scoreChannel.map(FileChannel.MapMode.READ_ONLY, offset*bytes, (long)(size)*bytes);
+				MappedByteBuffer labelBuffer = labelChannel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+
+				scoreBuffer.order(order);
+
+				if (format == FORMAT_FLOAT32){
+
+					for (int i=0; i<size; i++){
+
+						accumulator.add(labelBuffer.get(i), scoreBuffer.getFloat(4*i));
+
+					}
+
+				}
+				else{
+
+					for (int i=0; i<size; i++){
+
+						accumulator.add(labelBuffer.get(i), scoreBuffer.getDouble(8*i));
+
+					}
+
+				}
+
+			}
+
+		} catch (IOException e) {
+
+			e.printStackTrace();
+			System.exit(1);
+
+		} finally {
+
+			try {
+
+				if (scores != null){scores.close();}
+				if (labels != null){labels.close();}
+
+			} catch (IOException e) {
+
+				e.printStackTrace();
+
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import java.util.Arrays;
+
+
+// =================================================================================
+// Protected class for estimating a quantile of several data streams at once
+// ---------------------------------------------------------------------------------
+// P-square algorithm (Jain & Chlamtac, 1985) : each stream is summarized by 5
+// markers (minimum, p/2, p and (1+p)/2 quantiles estimates, and maximum) whose
+// heights are adjusted with piecewise-parabolic interpolation at each new value.
+// Memory is O(number of streams) whatever the number of values, and each update
+// is O(1) per stream.
+//---------------------------------------------------------------------------------
+// All streams receive one value at each update (e.g. one TPR per grid position
+// for each ROC curve), hence desired marker positions are shared. Quantiles are
+// exact (linear interpolation of order statistics) until 5 values are received.
+//---------------------------------------------------------------------------------
+// Date : 18/10/2026
+//=================================================================================
+
+class StreamingQuantiles {
+
+	// Number of markers per stream
+	private static final int M = 5;
+
+	// Number of streams
+	private int size;
+
+	// Quantile probability
+	private double p;
+
+	// Number of values received by each stream
+	private long count = 0;
+
+	// Markers heights and positions (5 per stream)
+	private double[] HEIGHTS;
+	private double[] POSITIONS;
+
+	// Desired markers positions (shared by all streams) and increments
+	private double[] DESIRED;
+	private double[] INCREMENTS;
+
+	// Getters
+	protected long getCount(){return count;}
+	protected double getProbability(){return p;}
+
+
+	// ---------------------------------------------------------------------------
+	// Constructor
+	// Inputs : number of streams and quantile probability in [0,1]
+	// ---------------------------------------------------------------------------
+	protected StreamingQuantiles(int size, double p){
+
+		if ((p < 0) || (p > 1)){
+
+			System.err.println("Error : quantile probability must be included in [0,1] interval");
+			System.exit(1);
+
+		}
+
+		this.size = size;
+		this.p = p;
+
+		HEIGHTS = new double[size*M];
+		POSITIONS = new double[size*M];
+
+		DESIRED = new double[]{1, 1+2*p, 1+4*p, 3+2*p, 5};
+		INCREMENTS = new double[]{0, p/2, p, (1+p)/2, 1};
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to add one value to each stream
+	// ---------------------------------------------------------------------------
+	protected void add(double[] values){
+
+		if (values.length != size){
+
+			System.err.println("Error : one value per stream is required to update quantiles");
+			System.exit(1);
+
+		}
+
+		// Initialization with first values
+		if (count < M){
+
+			for (int s=0; s<size; s++){
+
+				HEIGHTS[s*M + (int)count] = values[s];
+
+			}
+
+			count++;
+
+			if (count == M){
+
+				for (int s=0; s<size; s++){
+
+					Arrays.sort(HEIGHTS, s*M, s*M+M);
+
+					for (int i=0; i<M; i++){
+
+						POSITIONS[s*M+i] = i+1;
+
+					}
+
+				}
+
+			}
+
+			return;
+
+		}
+
+		count++;
+
+		for (int i=0; i<M; i++){
+
+			DESIRED[i] += INCREMENTS[i];
+
+		}
+
+		for (int s=0; s<size; s++){
+
+			update(s*M, values[s]);
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to update markers of a stream (offset in markers arrays)
+	// ---------------------------------------------------------------------------
+	private void update(int o, double x){
+
+		double[] q = HEIGHTS;
+		double[] n = POSITIONS;
+
+		// Cell containing new value
+		int k;
+
+		if (x < q[o]){
+
+			q[o] = x;
+			k = 0;
+
+		}
+		else if (x >= q[o+4]){
+
+			q[o+4] = x;
+			k = 3;
+
+		}
+		else{
+
+			k = 0;
+
+			while (x >= q[o+k+1]){k++;}
+
+		}
+
+		for (int i=k+1; i<M; i++){
+
+			n[o+i]++;
+
+		}
+
+		// Adjusting central markers heights
+		for (int i=1; i<M-1; i++){
+
+			double d = DESIRED[i] - n[o+i];
+
+			double right = n[o+i+1] - n[o+i];
+			double left = n[o+i-1] - n[o+i];
+
+			if (((d >= 1) && (right > 1)) || ((d <= -1) && (left < -1))){
+
+				int sign = (d > 0) ? 1 : -1;
+
+				double qp = parabolic(o, i, sign);
+
+				if ((q[o+i-1] < qp) && (qp < q[o+i+1])){
+
+					q[o+i] = qp;
+
+				}
+				else{
+
+					q[o+i] += sign*(q[o+i+sign] - q[o+i])/(n[o+i+sign] - n[o+i]);
+
+				}
+
+				n[o+i] += sign;
+
+			}
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for piecewise-parabolic prediction of a marker height
+	// ---------------------------------------------------------------------------
+	private double parabolic(int o, int i, int d){
+
+		double[] q = HEIGHTS;
+		double[] n = POSITIONS;
+
+		double a = (n[o+i] - n[o+i-1] + d)*(q[o+i+1] - q[o+i])/(n[o+i+1] - n[o+i]);
+		double b = (n[o+i+1] - n[o+i] - d)*(q[o+i] - q[o+i-1])/(n[o+i] - n[o+i-1]);
+
+		return q[o+i] + d*(a + b)/(n[o+i+1] - n[o+i-1]);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get quantile estimate of a stream
+	// ---------------------------------------------------------------------------
+	protected double get(int s){
+
+		if (count == 0){
+
+			return Double.NaN;
+
+		}
+
+		if (count >= M){
+
+			// Extreme probabilities are given by extreme markers
+			if (p == 0){return HEIGHTS[s*M];}
+			if (p == 1){return HEIGHTS[s*M+4];}
+
+			return HEIGHTS[s*M+2];
+
+		}
+
+		// Exact quantile of first values
+		double[] values = Arrays.copyOfRange(HEIGHTS, s*M, s*M+(int)count);
+
+		Arrays.sort(values);
+
+		double r = p*(values.length-1);
+
+		int i = (int)Math.floor(r);
+		int j = Math.min(i+1, values.length-1);
+
+		return values[i] + (r-i)*(values[j] - values[i]);
+
+	}
+
+}
@@ -0,0 +1,341 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.core;
+
+import java.util.Arrays;
+
+
+//=================================================================================
+// Class for computing classification metrics at every threshold
+// Scores are sorted once and cumulative numbers of true and false positives are
+// computed for each distinct score value (or each bin edge of an accumulator).
+// All metric curves (ROC, precision-recall, F-score, MCC, Youden index, lift and
+// gain) are then derived from these counts in O(thresholds) each, hence several
+// metrics cost the same as a single ROC curve. Index 0 corresponds to highest
+// threshold (no positive prediction). Undefined values (e.g. precision with no
+// positive prediction) are set to NaN and ignored when searching best threshold.
+// Date : 18/10/2026
+//=================================================================================
+
+public class ThresholdSweep {
+
+	// Metrics
+	public static int METRIC_TPR = 1;
+	public static int METRIC_FPR = 2;
+	public static int METRIC_PRECISION = 3;
+	public static int METRIC_F_SCORE = 4;
+	public static int METRIC_MCC = 5;
+	public static int METRIC_YOUDEN = 6;
+	public static int METRIC_LIFT = 7;
+	public static int METRIC_DEPTH = 8;
+	public static int METRIC_ACCURACY = 9;
+
+	// Thresholds (decreasing) and cumulative counts
+	private double[] THRESHOLDS;
+	private long[] TP;
+	private long[] FP;
+
+	// Instances number
+	private long P;
+	private long N;
+
+	// F-score parameter
+	private double beta = 1.0;
+
+	// Getters
+	public double[] getThresholds(){return THRESHOLDS;}
+	public long[] getTruePositives(){return TP;}
+	public long[] getFalsePositives(){return FP;}
+	public long getPositiveInstancesNumber(){return P;}
+	public long getNegativeInstancesNumber(){return N;}
+	public double getBeta(){return beta;}
+
+	// Setters
+	public void setBeta(double beta){this.beta = beta;}
+
+
+	// ---------------------------------------------------------------------------
+	// Main constructor
+	// Inputs : expected classes (0 or 1) and scores
+	// ---------------------------------------------------------------------------
+	public ThresholdSweep(int[] expected, double[] probabilities){
+
+		if (expected.length != probabilities.length){
+
+			System.err.println("Error : expected and probabilities vectors must have same dimension");
+			System.exit(1);
+
+		}
+
+		double[][] scores = RocCurveBuilder.splitScores(expected, probabilities);
+
+		build(scores[0], scores[1]);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Main constructor bis
+	// Inputs : positive and negative instances scores
+	// ---------------------------------------------------------------------------
+	public ThresholdSweep(double[] positives, double[] negatives){
+
+		build(positives, negatives);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Constructor from accumulator (one threshold per bin edge)
+	// ---------------------------------------------------------------------------
+	public ThresholdSweep(RocAccumulator accumulator){
+
+		int bins = accumulator.getBinsNumber();
+
+		double[] edges = accumulator.getBinEdges();
+
+		long[] pos = accumulator.getPositiveCounts();
+		long[] neg = accumulator.getNegativeCounts();
+
+		THRESHOLDS = new double[bins+1];
+		TP = new long[bins+1];
+		FP = new long[bins+1];
+
+		THRESHOLDS[0] = edges[bins];
+
+		for (int j=1; j<=bins; j++){
+
+			TP[j] = TP[j-1] + pos[bins-j];
+			FP[j] = FP[j-1] + neg[bins-j];
+
+			THRESHOLDS[j] = edges[bins-j];
+
+		}
+
+		P = TP[bins];
+		N = FP[bins];
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute cumulative counts with a single sort
+	// ---------------------------------------------------------------------------
+	private void build(double[] positives, double[] negatives){
+
+		double[] pos = AucEstimator.sortScores(positives);
+		double[] neg = AucEstimator.sortScores(negatives);
+
+		double[][] counts = RocCurveBuilder.walk(pos, null, 0, pos.length, neg, null, 0, neg.length);
+
+		int k = counts[0].length;
+
+		THRESHOLDS = counts[0];
+		TP = new long[k];
+		FP = new long[k];
+
+		for (int i=0; i<k; i++){
+
+			TP[i] = (long)(counts[1][i]);
+			FP[i] = (long)(counts[2][i]);
+
+		}
+
+		P = pos.length;
+		N = neg.length;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get number of thresholds
+	// ---------------------------------------------------------------------------
+	public int size(){
+
+		return THRESHOLDS.length;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute a metric at threshold of index k
+	// ---------------------------------------------------------------------------
+	public double getValue(int metric, int k){
+
+		double tp = TP[k];
+		double fp = FP[k];
+		double fn = P - TP[k];
+		double tn = N - FP[k];
+
+		if (metric == METRIC_TPR){
+
+			return tp/P;
+
+		}
+
+		if (metric == METRIC_FPR){
+
+			return fp/N;
+
+		}
+
+		if (metric == METRIC_PRECISION){
+
+			return (tp+fp == 0) ? Double.NaN : tp/(tp+fp);
+
+		}
+
+		if (metric == METRIC_F_SCORE){
+
+			double b2 = beta*beta;
+
+			return (1+b2)*tp/((1+b2)*tp + b2*fn + fp);
+
+		}
+
+		if (metric == METRIC_MCC){
+
+			double d = Math.sqrt((tp+fp)*(tp+fn)*(tn+fp)*(tn+fn));
+
+			return (d == 0) ? 0.0 : (tp*tn - fp*fn)/d;
+
+		}
+
+		if (metric == METRIC_YOUDEN){
+
+			return tp/P - fp/N;
+
+		}
+
+		if (metric == METRIC_LIFT){
+
+			return (tp+fp == 0) ? Double.NaN : (tp/(tp+fp))/((double)(P)/(double)(P+N));
+
+		}
+
+		if (metric == METRIC_DEPTH){
+
+			return (tp+fp)/(P+N);
+
+		}
+
+		if (metric == METRIC_ACCURACY){
+
+			return (tp+tn)/(P+N);
+
+		}
+
+		System.err.println("Error : unknown metric code "+metric);
+		System.exit(1);
+
+		return Double.NaN;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute a metric curve (one value per threshold)
+	// ---------------------------------------------------------------------------
+	public double[] getCurve(int metric){
+
+		double[] curve = new double[THRESHOLDS.length];
+
+		for (int k=0; k<curve.length; k++){
+
+			curve[k] = getValue(metric, k);
+
+		}
+
+		return curve;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to compute several metric curves
+	// Output : array of curves (in same order as metrics)
+	// ---------------------------------------------------------------------------
+	public double[][] getCurves(int... metrics){
+
+		double[][] curves = new double[metrics.length][];
+
+		for (int i=0; i<metrics.length; i++){
+
+			curves[i] = getCurve(metrics[i]);
+
+		}
+
+		return curves;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get index of best threshold for a metric
+	// (minimal value for FPR and maximal value otherwise)
+	// ---------------------------------------------------------------------------
+	public int getBestIndex(int metric){
+
+		double sign = (metric == METRIC_FPR) ? -1 : 1;
+
+		int best = -1;
+		double value = Double.NEGATIVE_INFINITY;
+
+		for (int k=0; k<THRESHOLDS.length; k++){
+
+			double v = sign*getValue(metric, k);
+
+			if (!Double.isNaN(v) && ((best == -1) || (v > value))){
+
+				best = k;
+				value = v;
+
+			}
+
+		}
+
+		return best;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get best score threshold for a metric
+	// ---------------------------------------------------------------------------
+	public double getBestThreshold(int metric){
+
+		int best = getBestIndex(metric);
+
+		return (best == -1) ? Double.NaN : THRESHOLDS[best];
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get best value of a metric
+	// ---------------------------------------------------------------------------
+	public double getBestValue(int metric){
+
+		int best = getBestIndex(metric);
+
+		return (best == -1) ? Double.NaN : getValue(metric, best);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to build ROC curve from sweep counts
+	// ---------------------------------------------------------------------------
+	public ReceiverOperatingCharacteristics toRoc(){
+
+		ReceiverOperatingCharacteristics roc = new ReceiverOperatingCharacteristics(getCurve(METRIC_FPR), getCurve(METRIC_TPR));
+
+		roc.TROC = Arrays.copyOf(THRESHOLDS, THRESHOLDS.length);
+
+		roc.setPositiveInstancesNumber((int)Math.min(P, Integer.MAX_VALUE));
+		roc.setNegativeInstancesNumber((int)Math.min(N, Integer.MAX_VALUE));
+
+		return roc;
+
+	}
+
+}
@@ -12,12 +12,10 @@
 
 package fr.ign.cogit.roc4j.optimization;
 
-import java.awt.Color;
-
 import fr.ign.cogit.roc4j.core.AreaUnderCurve;
+import fr.ign.cogit.roc4j.core.OperatingPoint;
 import fr.ign.cogit.roc4j.core.ReceiverOperatingCharacteristics;
-import fr.ign.cogit.roc4j.graphics.OperatingArea;
-import fr.ign.cogit.roc4j.graphics.OperatingPoint;
+import fr.ign.cogit.roc4j.utils.Tools;
 
 // =================================================================================
 // Class for handling isocost lines of ROC space
@@ -61,7 +59,7 @@ public class IsoCostLine {
 	private double slope;
 	private double intercept;
 
-	private Color color = Color.BLACK;
+	private int color = 0xFF000000;
 
 	private double searchResolution = Math.pow(2, -8);
 
@@ -70,11 +68,11 @@ public class IsoCostLine {
 	public double getSlope(){return slope;}
 	public double getIntercept(){return intercept;}
 
-	public Color getColor(){return this.color;}
+	public int getColor(){return this.color;}
 
 	public void setContext(Context context){this.context = context;}
 
-	public void setColor(Color color){this.color = color;}
+	public void setColor(int color){this.color = color;}
 
 	public void setIntercept(double intercept){
 
@@ -197,7 +195,7 @@ public class IsoCostLine {
 
 		AreaUnderCurve auc = new AreaUnderCurve(roc);
 
-		OperatingArea area = auc.getOperatingArea();
+		double[][] area = auc.getPolygon();
 
 		for (double inter=0.0001; inter<1; inter+=r){
 
@@ -221,7 +219,7 @@ public class IsoCostLine {
 
 				OperatingPoint point = new OperatingPoint(t, y, roc.getThresholdFromFpr(t));
 
-				if (area.contains(point)){
+				if (Tools.inside(t, y, area[0], area[1])){
 
 					bool = true;
 					intersection = point;
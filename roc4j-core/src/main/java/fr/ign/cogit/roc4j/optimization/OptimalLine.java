@@ -12,10 +12,8 @@
 
 package fr.ign.cogit.roc4j.optimization;
 
-import java.awt.Color;
-
+import fr.ign.cogit.roc4j.core.OperatingPoint;
 import fr.ign.cogit.roc4j.core.ReceiverOperatingCharacteristics;
-import fr.ign.cogit.roc4j.graphics.OperatingPoint;
 
 // =================================================================================
 // Class for computing optimal lines in ROC space for a specific problem instance
@@ -33,18 +31,18 @@ public class OptimalLine {
 	private double angle;
 	
 	// Style
-	private Color optimalLineColor = Color.BLACK;
+	private int optimalLineColor = 0xFF000000;
 	private float optimalLineThickness = 1.5f;
 	
 	// Setters
 	public void setContext(Context context){this.context = context;}
 	public void setAngle(double angle){this.angle = angle;}
-	public void setColor(Color color){optimalLineColor = color;}
+	public void setColor(int color){optimalLineColor = color;}
 	public void setThickness(float thickness){optimalLineThickness = thickness;}
 	
 	// Getters
 	public Context getContext(){return this.context;}
-	public Color getColor(){return optimalLineColor;}
+	public int getColor(){return optimalLineColor;}
 	public float getThickness(){return optimalLineThickness;}
 	public double getAngle(){return angle;}
 	
@@ -121,7 +119,17 @@ public class OptimalLine {
 		double xp = frac*XROC[index-1]+(1.0-frac)*XROC[index];
 		double yp = frac*YROC[index-1]+(1.0-frac)*YROC[index];
 		
-		OperatingPoint point = new OperatingPoint(xp, yp, 1.0-(double)index/(double)(XROC.length));
+		double[] TROC = roc.getThresholds();
+		
+		double threshold = 1.0-(double)index/(double)(XROC.length);
+		
+		if (TROC != null){
+			
+			threshold = frac*TROC[index-1]+(1.0-frac)*TROC[index];
+			
+		}
+		
+		OperatingPoint point = new OperatingPoint(xp, yp, threshold);
 		
 		
 		return point;
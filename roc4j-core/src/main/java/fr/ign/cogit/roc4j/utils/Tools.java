@@ -494,6 +494,127 @@ public class Tools {
 
 	}
 
+	// -----------------------------------------------------------------------------
+	// Method to draw a binomial random number (number of successes in n trials
+	// with success probability p). Inversion (sum of geometric variables) is used
+	// for small means, and Hormann's transformed rejection (BTRS) otherwise, hence
+	// expected cost is O(1) whatever n.
+	// -----------------------------------------------------------------------------
+	public static long binomial(long n, double p){
+
+		if ((n <= 0) || (p <= 0)){
+
+			return 0;
+
+		}
+
+		if (p >= 1){
+
+			return n;
+
+		}
+
+		if (p > 0.5){
+
+			return n - binomial(n, 1-p);
+
+		}
+
+		if (n*p < 10){
+
+			// Inversion : number of geometric inter-arrival gaps within n trials
+			double logq = Math.log1p(-p);
+
+			long k = 0;
+			double sum = 0;
+
+			while (true){
+
+				sum += Math.ceil(Math.log(1-Math.random())/logq);
+
+				if (sum > n){
+
+					return k;
+
+				}
+
+				k++;
+
+			}
+
+		}
+
+		// Transformed rejection
+		double spq = Math.sqrt(n*p*(1-p));
+
+		double b = 1.15 + 2.53*spq;
+		double a = -0.0873 + 0.0248*b + 0.01*p;
+		double c = n*p + 0.5;
+		double vr = 0.92 - 4.2/b;
+		double r = p/(1-p);
+		double alpha = (2.83 + 5.1/b)*spq;
+		double m = Math.floor((n+1)*p);
+
+		while (true){
+
+			double u = Math.random() - 0.5;
+			double v = Math.random();
+
+			double us = 0.5 - Math.abs(u);
+
+			double k = Math.floor((2*a/us + b)*u + c);
+
+			if ((us >= 0.07) && (v <= vr)){
+
+				return (long)k;
+
+			}
+
+			if ((k < 0) || (k > n)){
+
+				continue;
+
+			}
+
+			v = Math.log(v*alpha/(a/(us*us) + b));
+
+			double bound = (m+0.5)*Math.log((m+1)/(r*(n-m+1))) + (n+1)*Math.log((n-m+1)/(n-k+1));
+
+			bound += (k+0.5)*Math.log(r*(n-k+1)/(k+1));
+			bound += stirlingTail(m) + stirlingTail(n-m) - stirlingTail(k) - stirlingTail(n-k);
+
+			if (v <= bound){
+
+				return (long)k;
+
+			}
+
+		}
+
+	}
+
+	// Error of Stirling's approximation of log(k!) for k = 0, ..., 9
+	private static final double[] STIRLING_TAIL = {0.0810614667953272, 0.0413406959554092,
+			0.0276779256849983, 0.02079067210376509, 0.0166446911898211, 0.0138761288230707,
+			0.0118967099458917, 0.0104112652619720, 0.00925546218271273, 0.00833056343336287};
+
+	// -----------------------------------------------------------------------------
+	// Method to get error of Stirling's approximation of log(k!)
+	// -----------------------------------------------------------------------------
+	private static double stirlingTail(double k){
+
+		if (k <= 9){
+
+			return STIRLING_TAIL[(int)k];
+
+		}
+
+		double k1 = (k+1)*(k+1);
+
+		return (1.0/12 - (1.0/360 - 1.0/1260/k1)/k1)/(k+1);
+
+	}
+
 	// ---------------------------------------------------------------------------
 	// Method for computing confidence interval of a set of double values
 	// Confidence level is given in %
@@ -528,6 +649,230 @@ public class Tools {
 
 	}
 
+	// -----------------------------------------------------------------------------
+	// Method to find index of first element strictly greater than x
+	// Input : data sorted in increasing order (binary search)
+	// Output : index in [0, data.length]
+	// -----------------------------------------------------------------------------
+	public static int upperBound(double[] data, double x){
+
+		int inf = 0;
+		int sup = data.length;
+
+		while (inf < sup){
+
+			int mid = (inf+sup) >>> 1;
+
+			if (data[mid] <= x){inf = mid+1;}
+			else{sup = mid;}
+
+		}
+
+		return inf;
+
+	}
+
+	// -----------------------------------------------------------------------------
+	// Method to find index of first element greater or equal than x
+	// Input : data sorted in increasing order (binary search)
+	// Output : index in [0, data.length]
+	// -----------------------------------------------------------------------------
+	public static int lowerBound(double[] data, double x){
+
+		int inf = 0;
+		int sup = data.length;
+
+		while (inf < sup){
+
+			int mid = (inf+sup) >>> 1;
+
+			if (data[mid] < x){inf = mid+1;}
+			else{sup = mid;}
+
+		}
+
+		return inf;
+
+	}
+
+	// -----------------------------------------------------------------------------
+	// Method to restore original order of values computed on sorted keys
+	// Inputs : original keys, sorted keys and values associated to sorted keys
+	// Output : values associated to original keys
+	// -----------------------------------------------------------------------------
+	public static double[] unsort(double[] keys, double[] sorted, double[] values){
+
+		double[] output = new double[keys.length];
+
+		for (int i=0; i<keys.length; i++){
+
+			output[i] = values[Arrays.binarySearch(sorted, keys[i])];
+
+		}
+
+		return output;
+
+	}
+
+	// -----------------------------------------------------------------------------
+	// Method to sort keys in increasing order with associated values
+	// Inputs are sorted in place (NaN keys are sorted last)
+	// -----------------------------------------------------------------------------
+	public static void sort(double[] keys, double[] values){
+
+		// Missing (NaN) keys moved at the end
+		int n = keys.length;
+
+		for (int i=n-1; i>=0; i--){
+
+			if (Double.isNaN(keys[i])){
+
+				n--;
+				swap(keys, values, i, n);
+
+			}
+
+		}
+
+		sort(keys, values, 0, n-1);
+
+	}
+
+	// -----------------------------------------------------------------------------
+	// Quick sort of keys and values between indices inf and sup (included)
+	// -----------------------------------------------------------------------------
+	private static void sort(double[] keys, double[] values, int inf, int sup){
+
+		while (sup - inf > 16){
+
+			int mid = (inf+sup) >>> 1;
+
+			double a = keys[inf];
+			double b = keys[mid];
+			double c = keys[sup];
+
+			double pivot = Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+
+			int i = inf;
+			int j = sup;
+
+			while (i <= j){
+
+				while (keys[i] < pivot){i++;}
+				while (keys[j] > pivot){j--;}
+
+				if (i <= j){
+
+					swap(keys, values, i, j);
+
+					i++;
+					j--;
+
+				}
+
+			}
+
+			// Recursion on smallest part
+			if (j - inf < sup - i){
+
+				sort(keys, values, inf, j);
+				inf = i;
+
+			}
+			else{
+
+				sort(keys, values, i, sup);
+				sup = j;
+
+			}
+
+		}
+
+		// Insertion sort on small ranges
+		for (int i=inf+1; i<=sup; i++){
+
+			for (int j=i; (j > inf) && (keys[j-1] > keys[j]); j--){
+
+				swap(keys, values, j, j-1);
+
+			}
+
+		}
+
+	}
+
+	// -----------------------------------------------------------------------------
+	// Method to swap two elements of keys and values
+	// -----------------------------------------------------------------------------
+	private static void swap(double[] keys, double[] values, int i, int j){
+
+		double key = keys[i];
+		keys[i] = keys[j];
+		keys[j] = key;
+
+		double value = values[i];
+		values[i] = values[j];
+		values[j] = value;
+
+	}
+
+	// -----------------------------------------------------------------------------
+	// Method to make a log-spaced grid
+	// Inputs : bounds (strictly positive) and number of values
+	// Output : values from min to max with constant ratio
+	// -----------------------------------------------------------------------------
+	public static double[] logspace(double min, double max, int size){
+
+		if (!((min > 0) && (max > min) && (size >= 2))){
+
+			System.err.println("Error : log-spaced grid requires 0 < min < max and at least 2 values");
+			System.exit(1);
+
+		}
+
+		double[] grid = new double[size];
+
+		double lmin = Math.log(min);
+		double lmax = Math.log(max);
+
+		for (int i=0; i<size; i++){
+
+			grid[i] = Math.exp(lmin + (lmax-lmin)*(double)(i)/(double)(size-1));
+
+		}
+
+		grid[0] = min;
+		grid[size-1] = max;
+
+		return grid;
+
+	}
+
+	// -----------------------------------------------------------------------------
+	// Method to pack a color in a 32 bits ARGB integer (headless color model)
+	// Inputs : red, green, blue and alpha components in [0,1]
+	// Output : same value as java.awt.Color(r, g, b, a).getRGB()
+	// -----------------------------------------------------------------------------
+	public static int argb(float r, float g, float b, float a){
+
+		int ir = (int)(r*255+0.5);
+		int ig = (int)(g*255+0.5);
+		int ib = (int)(b*255+0.5);
+		int ia = (int)(a*255+0.5);
+
+		return (ia << 24) | (ir << 16) | (ig << 8) | ib;
+
+	}
+
+	// -----------------------------------------------------------------------------
+	// Method to change transparency of a 32 bits ARGB color
+	// -----------------------------------------------------------------------------
+	public static int argb(int color, float a){
+
+		return ((int)(a*255+0.5) << 24) | (color & 0x00FFFFFF);
+
+	}
+
 	// -----------------------------------------------------------------------------
 	// Method to round number
 	// -----------------------------------------------------------------------------
@@ -0,0 +1,225 @@
+
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ * 
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ * 
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ * 
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.validation;
+
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+import fr.ign.cogit.roc4j.core.ConfidenceBands;
+import fr.ign.cogit.roc4j.core.OperatingPoint;
+import fr.ign.cogit.roc4j.core.PercentileBandsAccumulator;
+import fr.ign.cogit.roc4j.core.ReceiverOperatingCharacteristics;
+import fr.ign.cogit.roc4j.core.RocCurvesCollection;
+import fr.ign.cogit.roc4j.optimization.OptimalLine;
+import fr.ign.cogit.roc4j.utils.Tools;
+
+
+//=================================================================================
+// Class for bootstraping a receiver operating curve
+// Requires that ROC curve has been constructed with expected and score vectors
+// Date : 11/09/2017
+//=================================================================================
+public class Bootstrap {
+
+	// ---------------------------------------------------------------------------
+	// Method for generating a sample of B bootstraps of a ROC curve
+	// ---------------------------------------------------------------------------
+	public static RocCurvesCollection sample(ReceiverOperatingCharacteristics roc, int B){
+
+		// Output bootstraps
+		ArrayList<ReceiverOperatingCharacteristics> ROCS = new ArrayList<ReceiverOperatingCharacteristics>();
+
+		generate(roc, B, ROCS::add);
+
+		return new RocCurvesCollection(ROCS, false);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for streaming B bootstraps of a ROC curve into percentile bands
+	// accumulator (bootstraps are not stored, memory is independent of B)
+	// ---------------------------------------------------------------------------
+	public static void sample(ReceiverOperatingCharacteristics roc, int B, PercentileBandsAccumulator accumulator){
+
+		generate(roc, B, accumulator::add);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing bootstrap percentile confidence bands of a ROC curve
+	// Inputs : ROC curve, number of bootstraps and confidence level (in %)
+	// ---------------------------------------------------------------------------
+	public static ConfidenceBands percentileBands(ReceiverOperatingCharacteristics roc, int B, double confidenceLevel){
+
+		PercentileBandsAccumulator accumulator = new PercentileBandsAccumulator(confidenceLevel, roc.getResolution());
+
+		sample(roc, B, accumulator);
+
+		return accumulator.getConfidenceBands();
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for generating B bootstraps of a ROC curve, each one being passed
+	// to output as soon as it is computed
+	// ---------------------------------------------------------------------------
+	private static void generate(ReceiverOperatingCharacteristics roc, int B, Consumer<ReceiverOperatingCharacteristics> output){
+
+		// Security test
+		if (roc.getPositiveScore().length == 1){
+
+			System.err.println("Error : expected and probabilities vector are expected to compute kernel smoothing");
+			System.exit(1);
+
+		}
+
+		// Number of instances
+		int np = roc.getPositiveScore().length;
+		int nn = roc.getNegativeScore().length;
+		int n = nn + np;
+
+		// Generating score and expected vectors
+
+		int[] expected = new int[n];
+		double[] predicted = new double[n];
+
+		// Negative scores
+		for (int i=0; i<nn; i++){
+
+			expected[i] = 0;
+			predicted[i] = roc.getNegativeScore()[i];
+
+		}
+
+		// Positive scores
+		for (int i=0; i<np; i++){
+
+			expected[nn+i] = 1;
+			predicted[nn+i] = roc.getPositiveScore()[i];
+
+		}
+
+		// Weighted instances
+		if ((roc.getPositiveWeights() != null) || (roc.getNegativeWeights() != null)){
+
+			generateWeighted(roc, B, expected, predicted, output);
+			return;
+
+		}
+
+		// Generating bootstrap samples
+
+		int[] b_exp = new int[n];
+		double[] b_pred = new double[n];
+
+		for(int b=0; b<B; b++){
+
+			// Bootstrapping vectors
+			for (int i=0; i<n; i++){
+
+				int index = (int)(Math.random()*n);
+
+				b_exp[i] = expected[index];
+				b_pred[i] = predicted[index];
+
+			}
+
+			// Generating roc curve with expected and posterior probabilities
+			output.accept(new ReceiverOperatingCharacteristics(b_exp, b_pred, roc.getResolution()));
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for generating a sample of B bootstraps of weighted instances
+	// Each bootstrap draws as many instances as the total weight, with
+	// probabilities proportional to weights, and counts draws of each instance in
+	// a new weight vector. This is the bootstrap of expanded instances, computed
+	// without expanding them : multinomial counts are generated instance by
+	// instance as conditional binomials (draws remaining after previous instances,
+	// with probability weight / remaining weight), in O(n) per bootstrap whatever
+	// the total weight. A fractional total weight is rounded to the nearest number
+	// of draws (at least 1).
+	// ---------------------------------------------------------------------------
+	private static void generateWeighted(ReceiverOperatingCharacteristics roc, int B, int[] expected, double[] predicted, Consumer<ReceiverOperatingCharacteristics> output){
+
+		int np = roc.getPositiveScore().length;
+		int nn = roc.getNegativeScore().length;
+		int n = nn + np;
+
+		// Weights (same order as expected vector)
+		double[] weights = new double[n];
+
+		for (int i=0; i<n; i++){
+
+			double[] w = (i < nn) ? roc.getNegativeWeights() : roc.getPositiveWeights();
+
+			weights[i] = (w == null) ? 1.0 : w[(i < nn) ? i : i-nn];
+
+		}
+
+		// Remaining weights (suffix sums, computed once to avoid drift)
+		double[] remaining = new double[n+1];
+
+		for (int i=n-1; i>=0; i--){
+
+			remaining[i] = remaining[i+1] + weights[i];
+
+		}
+
+		long draws = Math.max(Math.round(remaining[0]), 1);
+
+		double[] b_weights = new double[n];
+
+		for(int b=0; b<B; b++){
+
+			long left = draws;
+
+			for (int i=0; i<n; i++){
+
+				double p = (remaining[i] > 0) ? Math.min(weights[i]/remaining[i], 1.0) : 0.0;
+
+				long count = Tools.binomial(left, p);
+
+				b_weights[i] = count;
+
+				left -= count;
+
+			}
+
+			output.accept(new ReceiverOperatingCharacteristics(expected, predicted, b_weights, roc.getResolution()));
+
+		}
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing optimal operating point of an array list of roc curves
+	// ---------------------------------------------------------------------------
+	public static ArrayList<OperatingPoint> computeOptimalOperatingPoints(ArrayList<ReceiverOperatingCharacteristics> ROCS, OptimalLine line){
+
+		ArrayList<OperatingPoint> OOP = new ArrayList<OperatingPoint>();
+
+		for (int i=0; i<ROCS.size(); i++){
+
+			OOP.add(ROCS.get(i).computeOptimalOperatingPoint(line));
+
+		}
+
+		return OOP;
+
+	}
+
+}
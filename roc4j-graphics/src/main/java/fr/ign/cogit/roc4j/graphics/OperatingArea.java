@@ -14,6 +14,7 @@ package fr.ign.cogit.roc4j.graphics;
 
 import java.awt.Color;
 
+import fr.ign.cogit.roc4j.core.OperatingPoint;
 import fr.ign.cogit.roc4j.utils.Tools;
 
 //=================================================================================
@@ -17,6 +17,8 @@ import java.awt.Stroke;
 import java.util.ArrayList;
 import java.awt.BasicStroke;
 
+import fr.ign.cogit.roc4j.core.OperatingPoint;
+
 //=================================================================================
 // Class for storing operating lines in the roc space
 // Its main feature is a list of operating points
@@ -0,0 +1,755 @@
+/*******************************************************************************
+ * This software is released under the licence CeCILL
+ *
+ * see Licence_CeCILL-C_fr.html see Licence_CeCILL-C_en.html
+ *
+ * see <a href="http://www.cecill.info/">http://www.cecill.info/a>
+ *
+ * @copyright IGN
+ *
+ * @author Yann Méneroux
+ ******************************************************************************/
+
+package fr.ign.cogit.roc4j.graphics;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.util.ArrayList;
+
+import javax.swing.JFrame;
+
+import fr.ign.cogit.roc4j.core.AreaUnderCurve;
+import fr.ign.cogit.roc4j.core.ConfidenceBands;
+import fr.ign.cogit.roc4j.core.Kernel;
+import fr.ign.cogit.roc4j.core.OperatingPoint;
+import fr.ign.cogit.roc4j.core.PredefiniteKernel;
+import fr.ign.cogit.roc4j.core.ReceiverOperatingCharacteristics;
+import fr.ign.cogit.roc4j.core.RocCurvesCollection;
+
+
+//=================================================================================
+// Static class gathering plotting helpers of headless objects of roc4j-core
+// (ROC curves plotting, scoring space, color maps of curves, polygons of areas 
+// under curves, confidence bands isolines and rasters). Colors of roc4j-core 
+// objects are 32 bits ARGB integers, which may be obtained from java.awt colors 
+// with Color.getRGB().
+// Date : 18/10/2026
+//=================================================================================
+
+public class RocGraphics {
+
+	// ---------------------------------------------------------------------------
+	// Method to plot ROC curve
+	// ---------------------------------------------------------------------------
+	public static void plot(ReceiverOperatingCharacteristics roc){
+
+		RocSpace space = new RocSpace();
+
+		space.addRocCurve(roc);
+
+		// Container
+		JFrame fen = new JFrame();
+		fen.setSize(new Dimension(roc.getWidth(), roc.getHeight()));
+		fen.setLocationRelativeTo(null);
+		fen.setContentPane(space);
+		fen.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+
+
+		fen.setVisible(true);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to set color map of a ROC curve
+	// ---------------------------------------------------------------------------
+	public static void setColor(ReceiverOperatingCharacteristics roc, ColorMap cmap){
+
+		int[] colors = new int[cmap.getColorNumber()];
+		double[] thresholds = new double[cmap.getColorNumber()];
+
+		for (int i=0; i<colors.length; i++){
+
+			colors[i] = cmap.getColor(i).getRGB();
+			thresholds[i] = cmap.getThreshold(i);
+
+		}
+
+		roc.setColor(colors, thresholds);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get color map of a ROC curve (null if none)
+	// ---------------------------------------------------------------------------
+	public static ColorMap getColorMap(ReceiverOperatingCharacteristics roc){
+
+		int[] colors = roc.getColors();
+		double[] thresholds = roc.getColorsThresholds();
+
+		if (colors == null){
+
+			return null;
+
+		}
+
+		ColorMap cmap = new ColorMap();
+
+		for (int i=0; i<colors.length; i++){
+
+			cmap.add(new Color(colors[i], true), thresholds[i]);
+
+		}
+
+		return cmap;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method to get polygon of an area under curve
+	// ---------------------------------------------------------------------------
+	public static OperatingArea getOperatingArea(AreaUnderCurve auc){
+
+		OperatingLine line = new OperatingLine(auc.getRoc().toOperatingPointsSequency());
+
+		line.addOperatingPoint(new OperatingPoint(1, 0));
+		line.addOperatingPoint(line.getOperatingPoint(0));
+
+		return new OperatingArea(line);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing confidence bands isolines
+	// ---------------------------------------------------------------------------
+	public static ArrayList<ConfidenceBands> makeConfidenceIsolines(RocCurvesCollection rocs){
+
+		return makeConfidenceIsolines(rocs, 1, 99, 1);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing confidence bands isolines
+	// ---------------------------------------------------------------------------
+	public static ArrayList<ConfidenceBands> makeConfidenceIsolines(RocCurvesCollection rocs, double confidence_min, double confidence_max, double confidence_step){
+
+		return makeConfidenceIsolines(rocs, confidence_min, confidence_max, confidence_step, ColorMap.TYPE_MATHS);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing confidence bands isolines
+	// ---------------------------------------------------------------------------
+	public static ArrayList<ConfidenceBands> makeConfidenceIsolines(RocCurvesCollection rocs, double confidence_min, double confidence_max, double confidence_step, ColorMap cmap){
+
+		return makeConfidenceIsolines(rocs, confidence_min, confidence_max, confidence_step, ConfidenceBands.METHOD_THRESHOLD_AVERAGING, ConfidenceBands.DISTRIBUTION_BINOMIAL, cmap);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing confidence bands isolines
+	// Border color of each isoline is interpolated from its confidence level
+	// ---------------------------------------------------------------------------
+	public static ArrayList<ConfidenceBands> makeConfidenceIsolines(RocCurvesCollection rocs, double confidence_min, double confidence_max, double confidence_step, int method, int distribution, ColorMap cmap){
+
+		ArrayList<ConfidenceBands> BANDS = ConfidenceBands.makeConfidenceIsolines(rocs, confidence_min, confidence_max, confidence_step, method, distribution);
+
+		for (ConfidenceBands bands : BANDS){
+
+			bands.setBordersColor(cmap.interpolate(bands.getConfidenceLevel(), confidence_min, confidence_max).getRGB());
+
+		}
+
+		return BANDS;
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing confidence bands raster
+	// ---------------------------------------------------------------------------
+	public static ArrayList<OperatingArea> makeConfidenceRaster(RocCurvesCollection rocs){
+
+		return makeConfidenceRaster(rocs, 1, 99, 1);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing confidence bands raster
+	// ---------------------------------------------------------------------------
+	public static ArrayList<OperatingArea> makeConfidenceRaster(RocCurvesCollection rocs, double confidence_min, double confidence_max, double confidence_step, ColorMap cmap){
+
+		return makeConfidenceRaster(rocs, confidence_min, confidence_max, confidence_step, ConfidenceBands.METHOD_THRESHOLD_AVERAGING, ConfidenceBands.DISTRIBUTION_BINORMAL, cmap);
+
+	}
+
+
+	// ---------------------------------------------------------------------------
+	// Method for computing confidence bands raster
+	// ---------------------------------------------------------------------------
+	public static ArrayList<OperatingArea> makeConfidenceRaster(RocCurvesCollection rocs, double confidence_min, double confidence_max, double confidence_step){
+
+		return makeConfidenceRaster(rocs, confidence_min, confidence_max, confidence_step, ConfidenceBands.METHOD_THRESHOLD_AVERAGING, ConfidenceBands.DISTRIBUTION_BINORMAL, ColorMap.TYPE_MATHS);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for computing confidence bands raster
+	// ---------------------------------------------------------------------------
+	public static ArrayList<OperatingArea> makeConfidenceRaster(RocCurvesCollection rocs, double confidence_min, double confidence_max, double confidence_step, int method, int distribution, ColorMap cmap){
+
+		ArrayList<OperatingArea> BANDS = new ArrayList<OperatingArea>();
+
+		Color borders = new Color(0.f, 0.f, 0.f, 0.f);
+
+		double conf = 0;
+
+		// Distinct confidence levels (decreasing) : ring i lies between levels
+		// i+1 and i, and central band is given by last level
+		ArrayList<Double> LEVELS = new ArrayList<Double>();
+
+		for (double confidence=confidence_max-confidence_step; confidence>=confidence_min+confidence_step; confidence-=confidence_step){
+
+			// Update
+			conf = confidence;
+
+			if (LEVELS.isEmpty()){
+
+				LEVELS.add(confidence+confidence_step);
+
+			}
+
+			LEVELS.add(confidence);
+
+		}
+
+		if (LEVELS.isEmpty()){
+
+			LEVELS.add(conf);
+
+		}
+
+		double[] levels = new double[LEVELS.size()];
+
+		for (int i=0; i<levels.length; i++){
+
+			levels[i] = LEVELS.get(i);
+
+		}
+
+		// Confidence bands computation (curves statistics shared by all levels)
+		ArrayList<ConfidenceBands> ALL_BANDS = ConfidenceBands.makeConfidenceBands(rocs, method, levels, distribution);
+
+		// For each confidence level
+		for (int i=0; i<levels.length-1; i++){
+
+			double confidence = levels[i+1];
+
+			// Boundary line
+			OperatingLine lineU = new OperatingLine();
+			OperatingLine lineL = new OperatingLine();
+
+			// Confidence bands
+			ConfidenceBands bands1 = ALL_BANDS.get(i+1);
+			ConfidenceBands bands2 = ALL_BANDS.get(i);
+
+			// Lower boundary 1
+			for (int j=0; j<bands1.getUpperBandX().length; j++){
+
+				lineU.addOperatingPoint(new OperatingPoint(bands1.getUpperBandX()[j], bands1.getUpperBandY()[j]));
+
+			}
+
+			// Lower boundary 2
+			for (int j=bands2.getUpperBandX().length-1; j>=0; j--){
+
+				lineU.addOperatingPoint(new OperatingPoint(bands2.getUpperBandX()[j], bands2.getUpperBandY()[j]));
+
+			}
+
+			// Lower boundary 1
+			for (int j=0; j<bands1.getLowerBandX().length; j++){
+
+				lineL.addOperatingPoint(new OperatingPoint(bands1.getLowerBandX()[j], bands1.getLowerBandY()[j]));
+
+			}
+
+			// Lower boundary 2
+			for (int j=bands2.getLowerBandX().length-1; j>=0; j--){
+
+				lineL.addOperatingPoint(new OperatingPoint(bands2.getLowerBandX()[j], bands2.getLowerBandY()[j]));
+
+			}
+
+			// Boundary closure
+			lineU.addOperatingPoint(lineU.getOperatingPoint(0));
+			lineL.addOperatingPoint(lineL.getOperatingPoint(0));
+
+			// Polygonization
+			OperatingArea areaU = new OperatingArea(lineU);
+			OperatingArea areaL = new OperatingArea(lineL);
+
+			// Style
+			areaU.setBackGroundColor(cmap.interpolate(confidence, confidence_min, confidence_max));
+			areaU.setBorderColor(borders);
+			areaL.setBackGroundColor(cmap.interpolate(confidence, confidence_min, confidence_max));
+			areaL.setBorderColor(borders);
+
+			BANDS.add(areaU);
+			BANDS.add(areaL);
+
+		}
+
+		// Central band
+
+		ConfidenceBands bands = ALL_BANDS.get(levels.length-1);
+
+		OperatingLine line = new OperatingLine();
+
+		// Upper boundary 
+		for (int j=0; j<bands.getUpperBandX().length; j++){
+
+			line.addOperatingPoint(new OperatingPoint(bands.getUpperBandX()[j], bands.getUpperBandY()[j]));
+
+		}
+
+		// Lower boundary 2
+		for (int j=bands.getLowerBandX().length-1; j>=0; j--){
+
+			line.addOperatingPoint(new OperatingPoint(bands.getLowerBandX()[j], bands.getLowerBandY()[j]));
+
+		}
+
+		// Boundary closure
+		line.addOperatingPoint(line.getOperatingPoint(0));
+
+		// Polygonization
+		OperatingArea area = new OperatingArea(line);
+
+		// Style
+		area.setBackGroundColor(cmap.interpolate(conf, confidence_min, confidence_max));
+		area.setBorderColor(borders);
+
+		BANDS.add(area);
+
+
+		return BANDS;
+
+	}
+
+
+	// ---------------------------------------------------------------------------
+	// Method for plotting instances scores distribution
+	// ---------------------------------------------------------------------------
+	public static void plotScoringSpace(ReceiverOperatingCharacteristics roc){
+
+		plotScoringSpace(roc, new PredefiniteKernel(PredefiniteKernel.GAUSSIAN));
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for plotting instances scores distribution
+	// ---------------------------------------------------------------------------
+	public static void plotScoringSpace(ReceiverOperatingCharacteristics roc, Kernel k){
+
+		plotScoringSpace(roc, k, k, RocSpaceStyle.STYLE_PLAIN);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for plotting instances scores distribution
+	// ---------------------------------------------------------------------------
+	public static void plotScoringSpace(ReceiverOperatingCharacteristics roc, Kernel kp, Kernel kn){
+
+		plotScoringSpace(roc, kp, kn, RocSpaceStyle.STYLE_PLAIN);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for plotting instances scores distribution
+	// ---------------------------------------------------------------------------
+	public static void plotScoringSpace(ReceiverOperatingCharacteristics roc, Kernel k, RocSpaceStyle style){
+
+		plotScoringSpace(roc, k, k, style);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for plotting instances scores distribution
+	// ---------------------------------------------------------------------------
+	public static RocSpace getScoringSpace(ReceiverOperatingCharacteristics roc){
+
+		return getScoringSpace(roc, new PredefiniteKernel(PredefiniteKernel.GAUSSIAN));
+
+	}
+
+
+	// ---------------------------------------------------------------------------
+	// Method for plotting instances scores distribution
+	// ---------------------------------------------------------------------------
+	public static RocSpace getScoringSpace(ReceiverOperatingCharacteristics roc, Kernel k){
+
+		return getScoringSpace(roc, k, k, RocSpaceStyle.STYLE_PLAIN);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for plotting instances scores distribution
+	// ---------------------------------------------------------------------------
+	public static RocSpace getScoringSpace(ReceiverOperatingCharacteristics roc, Kernel k, RocSpaceStyle style){
+
+		return getScoringSpace(roc, k, k, style);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for plotting instances scores distribution
+	// ---------------------------------------------------------------------------
+	public static void plotScoringSpace(ReceiverOperatingCharacteristics roc, Kernel kp, Kernel kn, RocSpaceStyle style){
+
+		RocSpace scoringSpace = getScoringSpace(roc, kp, kn, style);
+
+		JFrame fen = new JFrame();
+		fen.setSize(900, 500);
+		fen.setContentPane(scoringSpace);
+		fen.setLocationRelativeTo(null);
+		fen.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		fen.setVisible(true);
+
+	}
+
+	// ---------------------------------------------------------------------------
+	// Method for getting instances scores distribution
+	// ---------------------------------------------------------------------------
+	public static RocSpace getScoringSpace(ReceiverOperatingCharacteristics roc, Kernel kp, Kernel kn, RocSpaceStyle style){
+
+		kp = kp.copy();
+		kn = kn.copy();
+
+		double[] POS_SCORES = roc.getPositiveScore();
+		double[] NEG_SCORES = roc.getNegativeScore();
+
+		int n = 1000;
+
+		// Security test
+		if (!roc.hasBinormalParameters() && POS_SCORES.length <= 1){
+
+			System.err.println("Error : roc curve must be provided with expected and probabilities samples or smoothed with binormal regression before attempting to get scoring space");
+			System.exit(1);
+
+		}
+
+		// Computing optimal kernel if needed
+		if ((kp instanceof PredefiniteKernel) && (((PredefiniteKernel)(kp)).getType() == PredefiniteKernel.AUTOMATIC)){
+
+			kp = new PredefiniteKernel(PredefiniteKernel.EPANECHNIKOV);
+
+			double mx = 0;
+			double mx2 = 0;
+
+			for (int i=0; i<POS_SCORES.length; i++){
+
+				mx += POS_SCORES[i];
+				mx2 += Math.pow(POS_SCORES[i], 2);
+
+			}
+
+			mx /= (double)(POS_SCORES.length);
+			mx2 /= (double)(POS_SCORES.length);
+
+			double sx = Math.sqrt(mx2-Math.pow(mx, 2));
+			sx = Math.sqrt(POS_SCORES.length/(POS_SCORES.length-1))*sx;
+
+			kp.setBandwidth(1.06*sx*Math.pow(POS_SCORES.length, -0.2));
+
+
+		}
+
+		// Computing optimal kernel if needed
+		if ((kn instanceof PredefiniteKernel) && (((PredefiniteKernel)(kn)).getType() == PredefiniteKernel.AUTOMATIC)){
+
+			kn = new PredefiniteKernel(PredefiniteKernel.EPANECHNIKOV);
+
+			double my = 0;
+			double my2 = 0;
+
+			for (int i=0; i<NEG_SCORES.length; i++){
+
+				my += NEG_SCORES[i];
+				my2 += Math.pow(NEG_SCORES[i], 2);
+
+			}
+
+			my /= (double)(NEG_SCORES.length);
+			my2 /= (double)(NEG_SCORES.length);
+
+			double sy = Math.sqrt(my2-Math.pow(my, 2));
+			sy = Math.sqrt(NEG_SCORES.length/(NEG_SCORES.length-1))*sy;
+
+			kn.setBandwidth(1.06*sy*Math.pow(NEG_SCORES.length, -0.2));
+
+		}
+
+
+		double hp = kp.getBandwidth();
+		double hn = kn.getBandwidth();
+
+		if (!roc.hasBinormalParameters()){
+
+			RocSpace scoringSpace = new RocSpace();
+
+			scoringSpace.setStyle(style);
+
+			scoringSpace.setDiagonalVisible(false);
+
+			int ip = 0;
+			int in = 0;
+
+			if (POS_SCORES.length < NEG_SCORES.length){
+
+				ip = 1;
+				in = (int) NEG_SCORES.length/POS_SCORES.length;
+
+			}else{
+
+				in = 1;
+				ip = (int) POS_SCORES.length/NEG_SCORES.length;
+
+			}
+
+
+			for (int i=0; i<POS_SCORES.length; i+=ip){
+
+				OperatingPoint point = new OperatingPoint(POS_SCORES[i], 0);
+				point.setColor(Color.GREEN.getRGB());
+				point.setSize(4);
+				scoringSpace.addOperatingPoint(point);
+
+			}
+
+			for (int i=0; i<NEG_SCORES.length; i+=in){
+
+				OperatingPoint point = new OperatingPoint(NEG_SCORES[i], 0);
+				point.setColor(Color.RED.getRGB());
+				point.setSize(4);
+				scoringSpace.addOperatingPoint(point);
+
+			}
+
+
+			double[] DX = new double[n];
+			double[] DY1 = new double[n];
+			double[] DY2 = new double[n];
+
+			for (int i=0; i<DX.length; i++){
+
+				double x = (double)i/(double)roc.getResolution();
+
+				DY1[i] = 0;
+				DY2[i] = 0;
+
+				DX[i] = x;
+
+				for (int j=0; j<POS_SCORES.length; j++){
+
+					DY2[i] += kp.pdf((x-POS_SCORES[j])/hp);
+
+				}
+
+				for (int j=0; j<NEG_SCORES.length; j++){
+
+					DY1[i] += kn.pdf((x-NEG_SCORES[j])/hn);
+
+				}
+
+				DY2[i] /= POS_SCORES.length*hp;
+				DY1[i] /= NEG_SCORES.length*hn;
+
+
+			}
+
+			double ymax1 = 0;
+			double ymax2 = 0;
+
+			for (int i=0; i<n; i++){
+
+				if (DY1[i] > ymax1){
+
+					ymax1 = DY1[i];
+
+				}
+
+				if (DY2[i] > ymax2){
+
+					ymax2 = DY2[i];
+
+				}
+
+			}
+
+			DY1[0] = 0;
+			DY2[0] = 0;
+			DY1[DY1.length-1] = 0;
+			DY2[DY2.length-1] = 0;
+
+			OperatingLine ol1 = new OperatingLine();
+			OperatingLine ol2 = new OperatingLine();
+
+			double max = Math.max(ymax1, ymax2);
+
+			for (int i=0; i<n; i++){
+
+				ol1.addOperatingPoint(new OperatingPoint(DX[i], DY1[i]/max*0.9));
+				ol2.addOperatingPoint(new OperatingPoint(DX[i], DY2[i]/max*0.9));
+
+			}
+
+
+
+			ol1.setColor(Color.RED);
+			ol2.setColor(Color.GREEN);
+
+			ol1.setStroke(new BasicStroke(2.f));
+			ol2.setStroke(new BasicStroke(2.f));
+
+
+			// -----------------------------------------------------------------------
+			// Plot
+			// -----------------------------------------------------------------------
+
+			scoringSpace.addOperatingLine(ol1);
+			scoringSpace.addOperatingLine(ol2);
+
+			OperatingLine ol21 = ol1.copy();
+			OperatingLine ol22 = ol2.copy();
+
+			ol21.addOperatingPoint(ol21.getOperatingPoint(0));
+			ol22.addOperatingPoint(ol22.getOperatingPoint(0));
+
+			scoringSpace.addOperatingArea(new OperatingArea(ol21, new Color(1.f, 0.f, 0.f, 0.3f), new Color(1.f, 0.f, 0.f, 0.f)));
+			scoringSpace.addOperatingArea(new OperatingArea(ol22, new Color(0.f, 1.f, 0.f, 0.3f), new Color(0.f, 1.f, 0.f, 0.f)));
+
+			scoringSpace.setTitle("Scoring space");
+			scoringSpace.setXLabel("Normalized classification score");
+			scoringSpace.setYLabel("Probability density function");
+
+			scoringSpace.setDy(1);
+
+
+			return scoringSpace;
+
+		}
+
+		// -----------------------------------------------------------------------
+		// Graphics preparation
+		// -----------------------------------------------------------------------
+
+		RocSpace scoringSpace = new RocSpace();
+
+		scoringSpace.setStyle(style);
+
+		scoringSpace.setDiagonalVisible(false);
+
+		// -----------------------------------------------------------------------
+		// Distributions
+		// -----------------------------------------------------------------------
+
+		double[] DX = new double[n];
+		double[] DY1 = new double[n];
+		double[] DY2 = new double[n];
+
+		double s1 = 0.1;
+		double s2 = roc.getSmoothedSlope()*s1;
+		double mu1 = 3*s1;
+		double mu2 = mu1+roc.getSmoothedIntercept()*s1;
+
+		double normalization = 3*s1+(mu2-mu1)+3*s2;
+
+		for (int i=0; i<n; i++){
+
+			double x = (double)i/(double)n*normalization;
+
+			double y1 = 1/(s1*Math.sqrt(2*Math.PI))*Math.exp(-0.5*Math.pow((x-mu1)/s1,2));
+			double y2 = 1/(s2*Math.sqrt(2*Math.PI))*Math.exp(-0.5*Math.pow((x-mu2)/s2,2));
+
+			DX[i] = x/normalization;
+			DY1[i] = y1;
+			DY2[i] = y2;
+
+		}
+
+		double ymax1 = 0;
+		double ymax2 = 0;
+
+		for (int i=0; i<n; i++){
+
+			if (DY1[i] > ymax1){
+
+				ymax1 = DY1[i];
+
+			}
+
+			if (DY2[i] > ymax2){
+
+				ymax2 = DY2[i];
+
+			}
+
+		}
+
+		DY1[0] = 0;
+		DY2[0] = 0;
+		DY1[DY1.length-1] = 0;
+		DY2[DY2.length-1] = 0;
+
+		OperatingLine ol1 = new OperatingLine();
+		OperatingLine ol2 = new OperatingLine();
+
+		double max = Math.max(ymax1, ymax2);
+
+		for (int i=0; i<n; i++){
+
+			ol1.addOperatingPoint(new OperatingPoint(DX[i], DY1[i]/max*0.9));
+			ol2.addOperatingPoint(new OperatingPoint(DX[i], DY2[i]/max*0.9));
+
+		}
+
+
+		ol1.setColor(Color.RED);
+		ol2.setColor(Color.GREEN);
+
+		ol1.setStroke(new BasicStroke(2.f));
+		ol2.setStroke(new BasicStroke(2.f));
+
+
+		// -----------------------------------------------------------------------
+		// Plot
+		// -----------------------------------------------------------------------
+
+		scoringSpace.addOperatingLine(ol1);
+		scoringSpace.addOperatingLine(ol2);
+
+		OperatingLine ol21 = ol1.copy();
+		OperatingLine ol22 = ol2.copy();
+
+		ol21.addOperatingPoint(ol21.getOperatingPoint(0));
+		ol22.addOperatingPoint(ol22.getOperatingPoint(0));
+
+		OperatingArea area1 = new OperatingArea(ol21, new Color(1.f, 0.f, 0.f, 0.3f), new Color(1.f, 0.f, 0.f, 0.f));
+		OperatingArea area2 = new OperatingArea(ol22, new Color(0.f, 1.f, 0.f, 0.3f), new Color(0.f, 1.f, 0.f, 0.f));
+
+
+		scoringSpace.addOperatingArea(area1);
+		scoringSpace.addOperatingArea(area2);
+
+
+		scoringSpace.setTitle("Scoring space");
+		scoringSpace.setXLabel("Normalized classification score");
+		scoringSpace.setYLabel("Probability density function");
+
+		scoringSpace.setDy(1);
+
+		return scoringSpace;
+
+	}
+
+}
@@ -38,6 +38,7 @@ import javax.swing.JComponent;
 
 import fr.ign.cogit.roc4j.core.AreaUnderCurve;
 import fr.ign.cogit.roc4j.core.ConfidenceBands;
+import fr.ign.cogit.roc4j.core.OperatingPoint;
 import fr.ign.cogit.roc4j.core.ReceiverOperatingCharacteristics;
 import fr.ign.cogit.roc4j.core.RocCurvesCollection;
 import fr.ign.cogit.roc4j.optimization.Context;
@@ -674,7 +675,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 		// Plot AUC visible
 		for (int i=0; i<AUC.size(); i++){
 
-			g.setColor(AUC.get(i).getColor());
+			g.setColor(new Color(AUC.get(i).getColor(), true));
 
 			int[] AUCX = new int[AUC.get(i).getRoc().getXRoc().length+2];
 			int[] AUCY = new int[AUC.get(i).getRoc().getXRoc().length+2];
@@ -748,7 +749,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 				dashed = new BasicStroke(OPTLINE.get(i).getThickness(), BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0, new float[]{10,10}, 0);
 				g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 				g2d.setStroke(dashed);
-				g2d.setColor(OPTLINE.get(i).getColor());
+				g2d.setColor(new Color(OPTLINE.get(i).getColor(), true));
 				int[] P3 = transformCoordinates(0.0,1.0);
 				int[] P4 = transformCoordinates(x,y);
 				g2d.drawLine(P3[0], P3[1], P4[0], P4[1]);
@@ -765,7 +766,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 			int taille = (int)POINTS.get(i).getSize();
 			String style = POINTS.get(i).getStyle();
 
-			g.setColor(POINTS.get(i).getColor());
+			g.setColor(new Color(POINTS.get(i).getColor(), true));
 
 
 			if (style.equals("o")){
@@ -889,7 +890,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 			int[] temp1 = transformCoordinates(x1, y1);
 			int[] temp2 = transformCoordinates(x2, y2);
 
-			g.setColor(ISOLINES.get(i).getColor());
+			g.setColor(new Color(ISOLINES.get(i).getColor(), true));
 
 
 			g.drawLine(temp1[0], temp1[1], temp2[0], temp2[1]);
@@ -904,7 +905,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 
 				double th = ROCS.get(attachToRoc).getThresholdFromFpr(transformCoordinatesReverse(xp3, yp1)[0]);
 
-				ColorMap cmap = ROCS.get(attachToRoc).getColorMap();
+				ColorMap cmap = RocGraphics.getColorMap(ROCS.get(attachToRoc));
 
 				if ((cmap != null) && ((attachProjectionToFPR) || (attachProjectionToTPR))){
 					Color c = cmap.interpolate(1-th, 0, 1);
@@ -920,9 +921,11 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 
 					if ((attachProjectionToFPR) || (attachProjectionToTPR)){
 
-						float r = (float)(ROCS.get(attachToRoc).getColor().getRed()/255.0);
-						float v = (float)(ROCS.get(attachToRoc).getColor().getGreen()/255.0);
-						float b = (float)(ROCS.get(attachToRoc).getColor().getBlue()/255.0);
+						Color c = new Color(ROCS.get(attachToRoc).getColor(), true);
+
+						float r = (float)(c.getRed()/255.0);
+						float v = (float)(c.getGreen()/255.0);
+						float b = (float)(c.getBlue()/255.0);
 
 						g2d.setColor(new Color(r, v, b, projectionTransparency));
 
@@ -963,7 +966,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 
 				double th = ROCS.get(attachToRoc).getThresholdFromFpr(transformCoordinatesReverse(xp3, yp1)[0]);
 
-				ColorMap cmap = ROCS.get(attachToRoc).getColorMap();
+				ColorMap cmap = RocGraphics.getColorMap(ROCS.get(attachToRoc));
 
 				if (cmap != null){
 
@@ -972,9 +975,11 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 				}
 				else{
 
-					float r = (float)(ROCS.get(attachToRoc).getColor().getRed()/255.0);
-					float v = (float)(ROCS.get(attachToRoc).getColor().getGreen()/255.0);
-					float b = (float)(ROCS.get(attachToRoc).getColor().getBlue()/255.0);
+					Color c = new Color(ROCS.get(attachToRoc).getColor(), true);
+
+					float r = (float)(c.getRed()/255.0);
+					float v = (float)(c.getGreen()/255.0);
+					float b = (float)(c.getBlue()/255.0);
 
 					g.setColor(new Color(r, v, b, projectionTransparency));
 
@@ -1025,7 +1030,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 
 		for (int k=0; k<ROCS.size(); k++){
 
-			ColorMap cmap = ROCS.get(k).getColorMap();
+			ColorMap cmap = RocGraphics.getColorMap(ROCS.get(k));
 
 			if (cmap == null){
 
@@ -1035,7 +1040,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 				int resolution = ROCS.get(k).getResolution();
 				float thickness = ROCS.get(k).getThickness();
 
-				Color color = ROCS.get(k).getColor();
+				Color color = new Color(ROCS.get(k).getColor(), true);
 
 				int[] X = new int[resolution];
 				int[] Y = new int[resolution];
@@ -1141,14 +1146,14 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 
 			// Background
 			if (cb.isBackgroundFilled()){
-				g2.setColor(cb.getColor());
+				g2.setColor(new Color(cb.getColor(), true));
 				g2.fillPolygon(CBX, CBY, 2*resolution);
 			}
 
 			// Borders
 			if (cb.isBordersColorVisible()){
 
-				g2.setColor(cb.getBordersColor());
+				g2.setColor(new Color(cb.getBordersColor(), true));
 				g2.setStroke(new BasicStroke(1, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0, new float[]{cb.getDashLength(), cb.getDashInterval()}, 0));
 				g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
@@ -1179,7 +1184,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 				int integer_gap = (int)(resolution*cb.getErrorBarsResolution());
 
 				Graphics2D g2 = (Graphics2D) g;
-				g2.setColor(cb.getErrorBarsColor());
+				g2.setColor(new Color(cb.getErrorBarsColor(), true));
 
 
 				double[] centralx = cb.getCentralROC().getXRoc();
@@ -1241,7 +1246,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 				int integer_gap = (int)(resolution*cb.getErrorBarsResolution());
 
 				Graphics2D g2 = (Graphics2D) g;
-				g2.setColor(cb.getErrorBarsColor());
+				g2.setColor(new Color(cb.getErrorBarsColor(), true));
 
 
 				double[] centralx = cb.getResampledCentralROC().getXRoc();
@@ -1786,16 +1791,16 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 			// Background
 			if (cb.isBackgroundFilled()){
 
-				String bcolor = makeSVGColor(cb.getColor());
+				String bcolor = makeSVGColor(new Color(cb.getColor(), true));
 
-				body += "\t <polygon fill-opacity=\""+cb.getColor().getAlpha()/200.0+"\" fill=\""+bcolor+"\" points=\""+coords+"\"/>\r\n";
+				body += "\t <polygon fill-opacity=\""+new Color(cb.getColor(), true).getAlpha()/200.0+"\" fill=\""+bcolor+"\" points=\""+coords+"\"/>\r\n";
 
 			}
 
 			// Borders
 			if (cb.isBordersColorVisible()){
 
-				String bcolor = makeSVGColor(cb.getBordersColor());
+				String bcolor = makeSVGColor(new Color(cb.getBordersColor(), true));
 
 
 				body += "\t <polyline stroke-dasharray=\""+cb.getDashLength()+", "+cb.getDashInterval()+"\" stroke=\""+bcolor+"\" style=\"fill:none\" points=\""+coords+"\"/>\r\n";
@@ -1810,7 +1815,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 
 		for (int i=0; i<AUC.size(); i++){
 
-			String aucColor = makeSVGColor(AUC.get(i).getColor());
+			String aucColor = makeSVGColor(new Color(AUC.get(i).getColor(), true));
 
 			int[] AUCX = new int[AUC.get(i).getRoc().getXRoc().length+2];
 			int[] AUCY = new int[AUC.get(i).getRoc().getXRoc().length+2];
@@ -1841,7 +1846,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 			}
 
 
-			body += "\t <polygon fill-opacity=\""+AUC.get(i).getColor().getAlpha()/200.0+"\" fill=\""+aucColor+"\" points=\""+coords+"\"/>\r\n";
+			body += "\t <polygon fill-opacity=\""+new Color(AUC.get(i).getColor(), true).getAlpha()/200.0+"\" fill=\""+aucColor+"\" points=\""+coords+"\"/>\r\n";
 
 		}
 
@@ -1870,14 +1875,16 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 
 			}
 
+			ColorMap cmap = RocGraphics.getColorMap(ROCS.get(k));
+
 			for (int i=0; i<resolution-1; i++){
 
-				String color = makeSVGColor(ROCS.get(k).getColor());
-				float opacity = ROCS.get(k).getColor().getAlpha();
+				String color = makeSVGColor(new Color(ROCS.get(k).getColor(), true));
+				float opacity = new Color(ROCS.get(k).getColor(), true).getAlpha();
 
-				if (ROCS.get(k).getColorMap() != null){
+				if (cmap != null){
 
-					Color interp_color = ROCS.get(k).getColorMap().interpolate((double)i/(double)resolution, 0, 1);
+					Color interp_color = cmap.interpolate((double)i/(double)resolution, 0, 1);
 					color = makeSVGColor(interp_color);
 
 					opacity = interp_color.getAlpha();
@@ -1904,7 +1911,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 			int taille = (int)(POINTS.get(i).getSize() / 1.2);
 			String style = POINTS.get(i).getStyle();
 
-			String pcol = makeSVGColor(POINTS.get(i).getColor());
+			String pcol = makeSVGColor(new Color(POINTS.get(i).getColor(), true));
 
 
 			if (style.equals("o")){
@@ -2061,7 +2068,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 
 				int integer_gap = (int)(resolution*cb.getErrorBarsResolution());
 
-				String errCol = makeSVGColor(cb.getErrorBarsColor());
+				String errCol = makeSVGColor(new Color(cb.getErrorBarsColor(), true));
 				double thickness = cb.getErrorBarsThickness();
 
 
@@ -2119,7 +2126,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 
 				int integer_gap = (int)(resolution*cb.getErrorBarsResolution());
 
-				String errCol = makeSVGColor(cb.getErrorBarsColor());
+				String errCol = makeSVGColor(new Color(cb.getErrorBarsColor(), true));
 
 				double[] centralx = cb.getResampledCentralROC().getXRoc();
 				double[] lowery = cb.getResampledLowerBandY();
@@ -2175,7 +2182,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 			int[] temp1 = transformCoordinatesSVG(x1, y1, svg_height, svg_width);
 			int[] temp2 = transformCoordinatesSVG(x2, y2, svg_height, svg_width);
 
-			String col = makeSVGColor(ISOLINES.get(i).getColor());
+			String col = makeSVGColor(new Color(ISOLINES.get(i).getColor(), true));
 
 			body += "\t  <line stroke-dasharray=\"3, 3\" stroke-width=\"1.0\" x1=\""+temp1[0]+"\" y1=\""+temp1[1]+"\" x2=\""+temp2[0]+"\" y2=\""+temp2[1]+"\" stroke=\""+col+"\" /> \r\n";
 
@@ -2254,7 +2261,7 @@ public class RocSpace extends JComponent implements MouseListener, MouseMotionLi
 
 				}
 
-				String color = makeSVGColor(OPTLINE.get(i).getColor());
+				String color = makeSVGColor(new Color(OPTLINE.get(i).getColor(), true));
 				double thickness = OPTLINE.get(i).getThickness();
 
 				int[] P3 = transformCoordinatesSVG(0.0, 1.0, svg_height, svg_width);